@@ -1,14 +1,19 @@
 package com.acme.center.platform.iam.application.internal.commandservices;
 
 import com.acme.center.platform.iam.application.internal.outboundservices.hashing.HashingService;
+import com.acme.center.platform.iam.application.internal.outboundservices.principals.PrincipalCacheService;
 import com.acme.center.platform.iam.application.internal.outboundservices.tokens.TokenService;
 import com.acme.center.platform.iam.domain.model.aggregates.User;
+import com.acme.center.platform.iam.domain.model.entities.Role;
 import com.acme.center.platform.iam.domain.model.commands.SignInCommand;
 import com.acme.center.platform.iam.domain.model.commands.SignUpCommand;
 import com.acme.center.platform.iam.domain.services.UserCommandService;
 import com.acme.center.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import com.acme.center.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -22,24 +27,30 @@ import java.util.Optional;
  */
 @Service
 public class UserCommandServiceImpl implements UserCommandService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserCommandServiceImpl.class);
 
     private final UserRepository userRepository;
     private final HashingService hashingService;
     private final TokenService tokenService;
 
     private final RoleRepository roleRepository;
+    private final PrincipalCacheService principalCacheService;
 
-    public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService, TokenService tokenService, RoleRepository roleRepository) {
+    public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService, TokenService tokenService, RoleRepository roleRepository, PrincipalCacheService principalCacheService) {
         this.userRepository = userRepository;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
         this.roleRepository = roleRepository;
+        this.principalCacheService = principalCacheService;
     }
 
     /**
      * Handle the sign-in command
      * <p>
      *     This method handles the {@link SignInCommand} command and returns the user and the token.
+     *     When the stored password hash uses an outdated algorithm or cost, it is replaced with a new hash.
+     *     The upgrade is best effort: when a concurrent sign-in of the same user saved it first, the conflict is ignored,
+     *     since the stored hash has already been upgraded, and the sign-in succeeds.
      * </p>
      * @param command the sign-in command containing the username and password
      * @return and optional containing the user matching the username and the generated token
@@ -52,7 +63,16 @@ public class UserCommandServiceImpl implements UserCommandService {
             throw new RuntimeException("User not found");
         if (!hashingService.matches(command.password(), user.get().getPassword()))
             throw new RuntimeException("Invalid password");
-        var token = tokenService.generateToken(user.get().getUsername());
+        if (hashingService.upgradeEncoding(user.get().getPassword())) {
+            user.get().setPassword(hashingService.encode(command.password()));
+            try {
+                userRepository.save(user.get());
+            } catch (OptimisticLockingFailureException e) {
+                LOGGER.debug("Password hash of user {} was upgraded by a concurrent sign-in", user.get().getId());
+            }
+        }
+        var roles = user.get().getRoles().stream().map(Role::getStringName).toList();
+        var token = tokenService.generateToken(user.get().getUsername(), roles);
         return Optional.of(ImmutablePair.of(user.get(), token));
     }
 
@@ -71,6 +91,7 @@ public class UserCommandServiceImpl implements UserCommandService {
         var roles = command.roles().stream().map(role -> roleRepository.findByName(role.getName()).orElseThrow(() -> new RuntimeException("Role name not found"))).toList();
         var user = new User(command.username(), hashingService.encode(command.password()), roles);
         userRepository.save(user);
-        return userRepository.findByUsername(command.username());
+        principalCacheService.evict(command.username());
+        return Optional.of(user);
     }
 }
@@ -0,0 +1,17 @@
+package com.acme.center.platform.iam.application.internal.outboundservices.hashing;
+
+/**
+ * Exception thrown when the hashing service cannot accept more work.
+ * @summary
+ * This exception is thrown when all hashing workers are busy and the waiting queue is full.
+ * The authentication endpoints answer it with 429 Too Many Requests, so clients can retry later instead of holding a request thread.
+ * @see RuntimeException
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+    /**
+     * Constructor for the exception.
+     */
+    public HashingCapacityExceededException() {
+        super("Password hashing capacity exceeded, please retry later.");
+    }
+}
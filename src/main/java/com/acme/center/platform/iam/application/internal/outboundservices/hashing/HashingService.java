@@ -20,4 +20,11 @@ public interface HashingService {
      */
     boolean matches(CharSequence rawPassword, String encodedPassword);
 
+    /**
+     * Check if an encoded password must be encoded again
+     * @param encodedPassword the encoded password
+     * @return boolean true if the encoded password does not use the current algorithm or cost, false otherwise
+     */
+    boolean upgradeEncoding(String encodedPassword);
+
 }
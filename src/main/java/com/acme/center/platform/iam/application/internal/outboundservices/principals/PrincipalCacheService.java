@@ -0,0 +1,14 @@
+package com.acme.center.platform.iam.application.internal.outboundservices.principals;
+
+/**
+ * PrincipalCacheService interface
+ * This interface is used to invalidate cached user principals when a user is created or changed
+ */
+public interface PrincipalCacheService {
+
+    /**
+     * Evict the cached principal of a given username
+     * @param username the username
+     */
+    void evict(String username);
+}
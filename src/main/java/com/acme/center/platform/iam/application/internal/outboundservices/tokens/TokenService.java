@@ -1,5 +1,7 @@
 package com.acme.center.platform.iam.application.internal.outboundservices.tokens;
 
+import java.util.Collection;
+
 /**
  * TokenService interface
  * This interface is used to generate and validate tokens
@@ -13,6 +15,21 @@ public interface TokenService {
      */
     String generateToken(String username);
 
+    /**
+     * Generate a token for a given username and its role names
+     * @param username the username
+     * @param roles the role names
+     * @return String the token
+     */
+    String generateToken(String username, Collection<String> roles);
+
+    /**
+     * Invalidate the roles embedded in the tokens issued so far for a given username
+     * <p>It must be called by every command that changes the roles of a user. It only applies to the current instance.</p>
+     * @param username the username
+     */
+    void invalidateEmbeddedRoles(String username);
+
     /**
      * Extract the username from a token
      * @param token the token
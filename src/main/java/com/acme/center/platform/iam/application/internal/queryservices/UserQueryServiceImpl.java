@@ -1,15 +1,19 @@
 package com.acme.center.platform.iam.application.internal.queryservices;
 
 import com.acme.center.platform.iam.domain.model.aggregates.User;
+import com.acme.center.platform.iam.domain.model.queries.ExportAllUsersQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetAllUsersQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetUserByIdQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetUserByUsernameQuery;
+import com.acme.center.platform.iam.domain.model.readmodels.UserSummary;
 import com.acme.center.platform.iam.domain.services.UserQueryService;
 import com.acme.center.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of {@link UserQueryService} interface.
@@ -38,6 +42,21 @@ public class UserQueryServiceImpl implements UserQueryService {
         return userRepository.findAll();
     }
 
+    /**
+     * This method is used to handle {@link ExportAllUsersQuery} query.
+     * <p>Users and their roles are read as a single flat projection, and the entries of each user are grouped into its summary.</p>
+     * @param query {@link ExportAllUsersQuery} instance.
+     * @param consumer the consumer of each {@link UserSummary} instance.
+     * @see ExportAllUsersQuery
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(ExportAllUsersQuery query, Consumer<UserSummary> consumer) {
+        try (var entries = userRepository.streamAllUserRoleEntries()) {
+            UserSummary.groupByUser(entries.iterator(), consumer);
+        }
+    }
+
     /**
      * This method is used to handle {@link GetUserByIdQuery} query.
      * @param query {@link GetUserByIdQuery} instance.
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.With;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -15,8 +17,14 @@ import java.util.List;
  *     This entity represents the role of a user in the system.
  *     It is used to define the permissions of a user.
  * </p>
+ * <p>
+ *     Roles are seeded at startup and never change, so they are kept read-only in the second-level cache
+ *     when the {@code l2cache} profile is active.
+ * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "roles")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
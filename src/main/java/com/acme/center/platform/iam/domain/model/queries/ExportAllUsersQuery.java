@@ -0,0 +1,7 @@
+package com.acme.center.platform.iam.domain.model.queries;
+
+/**
+ * Query to export all users, reading them one by one instead of as a list.
+ */
+public record ExportAllUsersQuery() {
+}
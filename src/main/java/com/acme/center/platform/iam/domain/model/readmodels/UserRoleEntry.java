@@ -0,0 +1,15 @@
+package com.acme.center.platform.iam.domain.model.readmodels;
+
+import com.acme.center.platform.iam.domain.model.valueobjects.Roles;
+
+/**
+ * User role entry
+ * @summary
+ * One row of the flat projection of users and their roles, read without loading the User aggregate.
+ * A user has one entry per role, or a single entry without a role when it has none.
+ * @param userId The user id
+ * @param username The username
+ * @param role The role, or null if the user has no roles
+ */
+public record UserRoleEntry(Long userId, String username, Roles role) {
+}
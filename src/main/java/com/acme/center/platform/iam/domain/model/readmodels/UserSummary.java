@@ -0,0 +1,44 @@
+package com.acme.center.platform.iam.domain.model.readmodels;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * User summary
+ * @summary
+ * Immutable snapshot of the public information of a user, built from its role entries without loading the User aggregate.
+ * @param id The user id
+ * @param username The username
+ * @param roles The names of the roles of the user
+ */
+public record UserSummary(Long id, String username, List<String> roles) {
+
+    /**
+     * Group consecutive role entries of the same user into user summaries
+     * @param entries The role entries, ordered by user id
+     * @param consumer The consumer of each user summary, in the order of the entries
+     * @return The number of user summaries consumed
+     */
+    public static long groupByUser(Iterator<UserRoleEntry> entries, Consumer<? super UserSummary> consumer) {
+        long count = 0;
+        UserRoleEntry firstEntry = null;
+        var roles = new ArrayList<String>();
+        while (entries.hasNext()) {
+            var entry = entries.next();
+            if (!Objects.isNull(firstEntry) && !firstEntry.userId().equals(entry.userId())) {
+                consumer.accept(new UserSummary(firstEntry.userId(), firstEntry.username(), List.copyOf(roles)));
+                count++;
+                roles.clear();
+                firstEntry = null;
+            }
+            if (Objects.isNull(firstEntry)) firstEntry = entry;
+            if (!Objects.isNull(entry.role())) roles.add(entry.role().name());
+        }
+        if (Objects.isNull(firstEntry)) return count;
+        consumer.accept(new UserSummary(firstEntry.userId(), firstEntry.username(), List.copyOf(roles)));
+        return count + 1;
+    }
+}
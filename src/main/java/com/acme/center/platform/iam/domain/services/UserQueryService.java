@@ -1,12 +1,15 @@
 package com.acme.center.platform.iam.domain.services;
 
 import com.acme.center.platform.iam.domain.model.aggregates.User;
+import com.acme.center.platform.iam.domain.model.queries.ExportAllUsersQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetAllUsersQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetUserByIdQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetUserByUsernameQuery;
+import com.acme.center.platform.iam.domain.model.readmodels.UserSummary;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * User query service
@@ -22,6 +25,13 @@ public interface UserQueryService {
      */
     List<User> handle(GetAllUsersQuery query);
 
+    /**
+     * Handle export all users query
+     * @param query the {@link ExportAllUsersQuery} query
+     * @param consumer the consumer that receives the {@link UserSummary} of each user, in id order, as it is read
+     */
+    void handle(ExportAllUsersQuery query, Consumer<UserSummary> consumer);
+
     /**
      * Handle get user by id query
      * @param query the {@link GetUserByIdQuery} query
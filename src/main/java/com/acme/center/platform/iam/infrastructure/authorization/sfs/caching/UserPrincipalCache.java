@@ -0,0 +1,58 @@
+package com.acme.center.platform.iam.infrastructure.authorization.sfs.caching;
+
+import com.acme.center.platform.iam.application.internal.outboundservices.principals.PrincipalCacheService;
+import com.acme.center.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * User principal cache.
+ * <p>
+ *     This class keeps the {@link UserDetailsImpl} built for each username, so authenticated requests
+ *     do not need to load the user and its roles from the database every time.
+ *     Entries expire after a fixed time to live and are evicted by size.
+ *     Hit, miss and eviction counts are published as the {@code cache.*} metrics with the {@code cache=user-principals} tag.
+ * </p>
+ */
+@Component
+public class UserPrincipalCache implements PrincipalCacheService {
+
+    private static final String CACHE_NAME = "user-principals";
+
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public UserPrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${authorization.principals.cache.maximum-size}") long maximumSize,
+            @Value("${authorization.principals.cache.ttl-minutes}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the cached principal of a username, loading it when absent
+     * @param username the username
+     * @param loader the function that builds the principal on a cache miss
+     * @return the UserDetailsImpl object
+     */
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        return cache.get(username, loader);
+    }
+
+    // inherit javadoc
+    @Override
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+}
@@ -60,4 +60,18 @@ public class UserDetailsImpl implements UserDetails {
                 authorities);
     }
 
+    /**
+     * This method is responsible for building the UserDetailsImpl object from a username and its role names.
+     * It is used when the role names come from verified token claims, so no password is available.
+     * @param username The username.
+     * @param roleNames The role names.
+     * @return The UserDetailsImpl object.
+     */
+    public static UserDetailsImpl build(String username, Collection<String> roleNames) {
+        var authorities = roleNames.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        return new UserDetailsImpl(username, null, authorities);
+    }
+
 }
@@ -1,7 +1,9 @@
 package com.acme.center.platform.iam.infrastructure.authorization.sfs.pipeline;
 
+import com.acme.center.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.acme.center.platform.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
 import com.acme.center.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.model.BearerTokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +17,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Bearer Authorization Request Filter.
@@ -40,6 +43,7 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
     /**
      * This method is responsible for filtering requests and setting the user authentication.
+     * When the token carries trusted embedded roles, the principal is built from the claims without loading the user.
      * @param request The request object.
      * @param response The response object.
      * @param filterChain The filter chain object.
@@ -48,13 +52,14 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String token = tokenService.getBearerTokenFrom(request);
-            LOGGER.info("Token: {}", token);
-            if (token != null && tokenService.validateToken(token)) {
-                String username = tokenService.getUsernameFromToken(token);
-                var userDetails = userDetailsService.loadUserByUsername(username);
+            var claims = token != null ? tokenService.parseVerifiedClaims(token) : Optional.<BearerTokenClaims>empty();
+            if (claims.isPresent()) {
+                var userDetails = claims.get().hasEmbeddedRoles()
+                        ? UserDetailsImpl.build(claims.get().username(), claims.get().roles())
+                        : userDetailsService.loadUserByUsername(claims.get().username());
                 SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
             } else {
-                LOGGER.info("Token is not valid");
+                LOGGER.debug("Token is not present or not valid");
             }
 
         } catch (Exception e) {
@@ -1,5 +1,6 @@
 package com.acme.center.platform.iam.infrastructure.authorization.sfs.services;
 
+import com.acme.center.platform.iam.infrastructure.authorization.sfs.caching.UserPrincipalCache;
 import com.acme.center.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.acme.center.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,19 +16,32 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     /**
-     * This method is responsible for loading the user details from the database.
+     * This method is responsible for loading the user details.
+     * It serves the principal from the user principal cache and only reads the database on a cache miss.
      * @param username The username.
      * @return The UserDetails object.
      * @throws UsernameNotFoundException If the user is not found.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userPrincipalCache.get(username, this::loadUserDetailsFromRepository);
+    }
+
+    /**
+     * This method is responsible for loading the user details from the database.
+     * @param username The username.
+     * @return The UserDetailsImpl object.
+     * @throws UsernameNotFoundException If the user is not found.
+     */
+    private UserDetailsImpl loadUserDetailsFromRepository(String username) {
         var user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
         return UserDetailsImpl.build(user);
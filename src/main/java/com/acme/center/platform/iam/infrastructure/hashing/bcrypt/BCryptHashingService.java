@@ -9,4 +9,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * This interface is used to inject the BCrypt hashing service in the {@link com.acme.learning.platform.iam.infrastructure.hashing.bcrypt.services.HashingServiceImpl} class.
  */
 public interface BCryptHashingService extends HashingService, PasswordEncoder {
+
+    // inherit javadoc
+    @Override
+    boolean upgradeEncoding(String encodedPassword);
 }
@@ -1,29 +1,86 @@
 package com.acme.center.platform.iam.infrastructure.hashing.bcrypt.services;
 
+import com.acme.center.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.acme.center.platform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.acme.center.platform.iam.infrastructure.hashing.strategies.PasswordHashingStrategies;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * This class implements the {@link BCryptHashingService} interface.
- * It is used to hash passwords using the BCrypt algorithm.
+ * It is used to hash passwords using the configured hashing strategy, BCrypt by default.
+ * <p>
+ *     Encoded passwords carry an {@code {id}} prefix naming their strategy, so passwords hashed with any supported
+ *     strategy can be matched, and {@link #upgradeEncoding(String)} reports the ones that must be rehashed.
+ *     Passwords stored without a prefix are matched as BCrypt hashes.
+ * </p>
+ * <p>
+ *     Hashing runs on a dedicated, fixed-size worker pool with a bounded queue, so CPU-heavy hashing cannot take
+ *     over the request threads. When every worker is busy and the queue is full, the work is rejected right away
+ *     with a {@link HashingCapacityExceededException}.
+ *     Queue depth, active workers, rejections and hashing latency are published as {@code iam.hashing.*} metrics.
+ * </p>
  */
 @Service
 public class HashingServiceImpl implements BCryptHashingService {
-    private final BCryptPasswordEncoder passwordEncoder;
+    private static final String WORKER_THREAD_NAME_PREFIX = "password-hashing-worker-";
+
+    private final DelegatingPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
 
-    HashingServiceImpl() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+    HashingServiceImpl(
+            MeterRegistry meterRegistry,
+            @Value("${authorization.hashing.strategy}") String strategy,
+            @Value("${authorization.hashing.bcrypt.strength}") int strength,
+            @Value("${authorization.hashing.pool.size}") int poolSize,
+            @Value("${authorization.hashing.pool.queue-capacity}") int queueCapacity) {
+        this.passwordEncoder = PasswordHashingStrategies.createDelegatingPasswordEncoder(strategy, strength);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                workerThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("iam.hashing.duration")
+                .description("Time spent hashing passwords")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("iam.hashing.duration")
+                .description("Time spent hashing passwords")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("iam.hashing.rejected")
+                .description("Hashing requests rejected because the worker pool was full")
+                .register(meterRegistry);
+        Gauge.builder("iam.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("iam.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing workers currently busy")
+                .register(meterRegistry);
     }
 
     /**
-     * Hash a password using the BCrypt algorithm
+     * Hash a password using the configured hashing strategy
      * @param rawPassword the password to hash
      * @return String the hashed password
+     * @throws HashingCapacityExceededException if the worker pool is full
      */
     @Override
     public String encode(CharSequence rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
     }
 
     /**
@@ -31,10 +88,68 @@ public class HashingServiceImpl implements BCryptHashingService {
      * @param rawPassword the raw password
      * @param encodedPassword the hashed password
      * @return boolean true if the raw password matches the hashed password, false otherwise
+     * @throws HashingCapacityExceededException if the worker pool is full
      */
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Check if a hashed password must be hashed again
+     * @param encodedPassword the hashed password
+     * @return boolean true if the password was hashed with another strategy or another cost, false otherwise
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
     }
 
+    /**
+     * Stop the worker pool when the application shuts down
+     */
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Run a hashing task on the worker pool and wait for its result
+     * @param task the hashing task
+     * @param <T> the type of the result
+     * @return T the result of the task
+     * @throws HashingCapacityExceededException if the worker pool is full
+     */
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new HashingCapacityExceededException();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Create the thread factory for the hashing workers
+     * @return ThreadFactory the factory creating named daemon threads
+     */
+    private static ThreadFactory workerThreadFactory() {
+        var threadNumber = new AtomicInteger(1);
+        return runnable -> {
+            var thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
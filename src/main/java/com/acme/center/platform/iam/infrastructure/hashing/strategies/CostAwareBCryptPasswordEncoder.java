@@ -0,0 +1,39 @@
+package com.acme.center.platform.iam.infrastructure.hashing.strategies;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt password encoder that asks for an upgrade whenever the stored cost differs from the target cost.
+ * <p>
+ *     The default {@link BCryptPasswordEncoder} only upgrades hashes with a lower cost. This encoder also
+ *     rehashes hashes with a higher cost, so lowering the cost to meet the sign-in latency target takes effect too.
+ * </p>
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final int COST_BEGIN_INDEX = 4;
+    private static final int COST_END_INDEX = 6;
+
+    private final int strength;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Check if an encoded password must be rehashed
+     * @param encodedPassword the encoded password, in the {@code $2a$NN$...} format
+     * @return boolean true if the stored cost cannot be read or differs from the target cost, false otherwise
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < COST_END_INDEX) return false;
+        try {
+            var storedStrength = Integer.parseInt(encodedPassword.substring(COST_BEGIN_INDEX, COST_END_INDEX));
+            return storedStrength != strength;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+}
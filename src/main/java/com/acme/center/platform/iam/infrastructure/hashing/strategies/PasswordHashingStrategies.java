@@ -0,0 +1,56 @@
+package com.acme.center.platform.iam.infrastructure.hashing.strategies;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Password hashing strategies registry.
+ * <p>
+ *     This class builds the supported password hashing strategies, keyed by the identifier written as the
+ *     {@code {id}} prefix of every encoded password. Encoded passwords without a prefix were created before
+ *     the prefix format existed and are matched as BCrypt hashes.
+ * </p>
+ */
+public final class PasswordHashingStrategies {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordHashingStrategies() {
+    }
+
+    /**
+     * Create the supported strategies
+     * @param bcryptStrength the BCrypt cost
+     * @return Map of strategy identifier to password encoder
+     */
+    public static Map<String, PasswordEncoder> create(int bcryptStrength) {
+        var strategies = new LinkedHashMap<String, PasswordEncoder>();
+        strategies.put(BCRYPT, new CostAwareBCryptPasswordEncoder(bcryptStrength));
+        strategies.put(ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        strategies.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        return strategies;
+    }
+
+    /**
+     * Create the password encoder that hashes with the target strategy and matches any supported strategy
+     * @param targetStrategy the identifier of the strategy used to hash new passwords
+     * @param bcryptStrength the BCrypt cost
+     * @return DelegatingPasswordEncoder the encoder dispatching on the {@code {id}} prefix
+     * @throws IllegalArgumentException if the target strategy is not supported
+     */
+    public static DelegatingPasswordEncoder createDelegatingPasswordEncoder(String targetStrategy, int bcryptStrength) {
+        var strategies = create(bcryptStrength);
+        if (!strategies.containsKey(targetStrategy))
+            throw new IllegalArgumentException("Unsupported password hashing strategy: " + targetStrategy);
+        var delegatingPasswordEncoder = new DelegatingPasswordEncoder(targetStrategy, strategies);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(strategies.get(BCRYPT));
+        return delegatingPasswordEncoder;
+    }
+}
@@ -2,7 +2,10 @@ package com.acme.center.platform.iam.infrastructure.persistence.jpa.repositories
 
 import com.acme.center.platform.iam.domain.model.entities.Role;
 import com.acme.center.platform.iam.domain.model.valueobjects.Roles;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,9 +19,13 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
 
     /**
      * This method is responsible for finding the role by name.
+     * The result is kept in the query cache when the {@code l2cache} profile is active.
      * @param name The role name.
      * @return The role object.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-queries")})
     Optional<Role> findByName(Roles name);
 
     /**
@@ -1,10 +1,17 @@
 package com.acme.center.platform.iam.infrastructure.persistence.jpa.repositories;
 
 import com.acme.center.platform.iam.domain.model.aggregates.User;
+import com.acme.center.platform.iam.domain.model.readmodels.UserRoleEntry;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.StreamingQueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * This interface is responsible for providing the User entity related operations.
@@ -27,4 +34,17 @@ public interface UserRepository extends JpaRepository<User, Long>
      */
     boolean existsByUsername(String username);
 
+    /**
+     * This method is responsible for reading all the users and their roles, ordered by user id, through a forward-only streaming result set.
+     * Users and roles are read in a single flat query, with one entry per role, so no role is loaded user by user.
+     * The entries are streamed one row at a time.
+     * It must be called inside a transaction, and the stream must be closed after use.
+     * @return The stream of the role entries of all the users.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.ROW_BY_ROW_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select new com.acme.center.platform.iam.domain.model.readmodels.UserRoleEntry(u.id, u.username, r.name) from User u left join u.roles r order by u.id asc")
+    Stream<UserRoleEntry> streamAllUserRoleEntries();
+
 }
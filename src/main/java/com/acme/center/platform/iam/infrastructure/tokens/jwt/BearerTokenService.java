@@ -1,9 +1,12 @@
 package com.acme.center.platform.iam.infrastructure.tokens.jwt;
 
 import com.acme.center.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.model.BearerTokenClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
+import java.util.Optional;
+
 /**
  * This interface is a marker interface for the JWT token service.
  * It extends the {@link TokenService} interface.
@@ -25,4 +28,12 @@ public interface BearerTokenService extends TokenService {
      * @see Authentication
      */
     String generateToken(Authentication authentication);
+
+    /**
+     * This method is responsible for verifying a JWT token and returning its claims in a single pass.
+     * @param token the JWT token
+     * @return Optional of BearerTokenClaims if the token is valid, empty otherwise
+     * @see BearerTokenClaims
+     */
+    Optional<BearerTokenClaims> parseVerifiedClaims(String token);
 }
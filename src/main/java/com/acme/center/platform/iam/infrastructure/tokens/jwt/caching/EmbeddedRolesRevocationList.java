@@ -0,0 +1,60 @@
+package com.acme.center.platform.iam.infrastructure.tokens.jwt.caching;
+
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.model.BearerTokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Embedded roles revocation list.
+ * <p>
+ *     This class records, per username, the instant after which the roles embedded in previously issued tokens
+ *     can no longer be trusted. Tokens issued at or before that instant fall back to loading the user from the user store.
+ *     Each entry only lives as long as a token can live, since older tokens are rejected as expired anyway.
+ *     The list is bounded by a maximum size; an entry evicted early makes the embedded roles of older tokens trusted again.
+ * </p>
+ * <p>
+ *     The list is local to each instance, so a revocation is not seen by the other instances.
+ *     With the {@code authorization.jwt.embed-roles} mode enabled, a role change only reaches every instance
+ *     once the tokens issued before it expire.
+ * </p>
+ */
+@Component
+public class EmbeddedRolesRevocationList {
+
+    private final Cache<String, Long> revokedAt;
+
+    public EmbeddedRolesRevocationList(
+            @Value("${authorization.jwt.expiration.days}") int expirationDays,
+            @Value("${authorization.jwt.revocations.maximum-size}") long maximumSize) {
+        this.revokedAt = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofDays(expirationDays))
+                .build();
+    }
+
+    /**
+     * Revoke the roles embedded in all tokens issued so far for a username
+     * @param username the username
+     */
+    public void revoke(String username) {
+        revokedAt.put(username, System.currentTimeMillis());
+    }
+
+    /**
+     * Check if the roles embedded in a token have been revoked
+     * <p>
+     *     Token issue dates have second precision, so a token issued in the same second as the revocation is treated as revoked.
+     * </p>
+     * @param claims the verified claims of the token
+     * @return boolean true if the embedded roles must not be used, false otherwise
+     */
+    public boolean isRevoked(BearerTokenClaims claims) {
+        var revokedAtMillis = revokedAt.getIfPresent(claims.username());
+        if (revokedAtMillis == null) return false;
+        return claims.issuedAt() == null || claims.issuedAt().getTime() <= revokedAtMillis;
+    }
+}
@@ -0,0 +1,104 @@
+package com.acme.center.platform.iam.infrastructure.tokens.jwt.caching;
+
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.model.BearerTokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Verified token claims cache.
+ * <p>
+ *     This class keeps the claims of JWT tokens whose signature has already been verified,
+ *     so repeated requests with the same token skip the signature check.
+ *     Entries are keyed by the SHA-256 digest of the token, so raw tokens are never kept in memory,
+ *     and each entry expires no later than the token itself.
+ * </p>
+ */
+@Component
+public class VerifiedTokenClaimsCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, BearerTokenClaims> cache;
+
+    public VerifiedTokenClaimsCache(
+            @Value("${authorization.jwt.cache.maximum-size}") long maximumSize,
+            @Value("${authorization.jwt.cache.maximum-ttl-minutes}") long maximumTtlMinutes) {
+        var maximumTtlNanos = Duration.ofMinutes(maximumTtlMinutes).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenLifetimeExpiry(maximumTtlNanos))
+                .build();
+    }
+
+    /**
+     * Get the verified claims of a token, if present and not expired
+     * @param token the token
+     * @return Optional of BearerTokenClaims if the token was verified before, empty otherwise
+     */
+    public Optional<BearerTokenClaims> get(String token) {
+        var key = keyOf(token);
+        var claims = cache.getIfPresent(key);
+        if (claims == null) return Optional.empty();
+        if (claims.isExpiredAt(System.currentTimeMillis())) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    /**
+     * Store the verified claims of a token
+     * @param token the token
+     * @param claims the verified claims
+     */
+    public void put(String token, BearerTokenClaims claims) {
+        cache.put(keyOf(token), claims);
+    }
+
+    /**
+     * Compute the cache key of a token
+     * @param token the token
+     * @return String the hex encoded SHA-256 digest of the token
+     */
+    private String keyOf(String token) {
+        try {
+            var digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * Expiry policy that keeps each entry until the token expires, bounded by the maximum time to live.
+     */
+    private record TokenLifetimeExpiry(long maximumTtlNanos) implements Expiry<String, BearerTokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, BearerTokenClaims claims, long currentTime) {
+            if (claims.expiration() == null) return maximumTtlNanos;
+            var remainingNanos = Duration.ofMillis(claims.expiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maximumTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, BearerTokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, BearerTokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
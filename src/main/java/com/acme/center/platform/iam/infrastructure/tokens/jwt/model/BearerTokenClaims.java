@@ -0,0 +1,43 @@
+package com.acme.center.platform.iam.infrastructure.tokens.jwt.model;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Bearer token claims
+ * <p>
+ *     This record holds the claims of a JWT token whose signature has already been verified.
+ *     It is the result of parsing a token once, so the subject and the expiration can be used together.
+ * </p>
+ * @param username the subject of the token
+ * @param issuedAt the issue date of the token
+ * @param expiration the expiration date of the token
+ * @param roles the role names embedded in the token, or null when the token does not carry roles
+ */
+public record BearerTokenClaims(String username, Date issuedAt, Date expiration, List<String> roles) {
+
+    /**
+     * Check if the token is expired at the given instant
+     * @param now the current time in milliseconds
+     * @return boolean true if the token has an expiration and it is not after the given instant, false otherwise
+     */
+    public boolean isExpiredAt(long now) {
+        return expiration != null && expiration.getTime() <= now;
+    }
+
+    /**
+     * Check if the token carries embedded roles
+     * @return boolean true if the roles can be taken from the token, false otherwise
+     */
+    public boolean hasEmbeddedRoles() {
+        return roles != null;
+    }
+
+    /**
+     * Get a copy of these claims without the embedded roles
+     * @return BearerTokenClaims the claims with no roles, so the principal has to be loaded from the user store
+     */
+    public BearerTokenClaims withoutEmbeddedRoles() {
+        return new BearerTokenClaims(username, issuedAt, expiration, null);
+    }
+}
@@ -1,9 +1,13 @@
 package com.acme.center.platform.iam.infrastructure.tokens.jwt.services;
 
 import com.acme.center.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.caching.EmbeddedRolesRevocationList;
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.caching.VerifiedTokenClaimsCache;
+import com.acme.center.platform.iam.infrastructure.tokens.jwt.model.BearerTokenClaims;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.time.DateUtils;
 import org.slf4j.Logger;
@@ -15,7 +19,10 @@ import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -32,6 +39,8 @@ public class TokenServiceImpl implements BearerTokenService {
 
     private static final int TOKEN_BEGIN_INDEX = 7;
 
+    private static final String ROLES_CLAIM_NAME = "roles";
+
 
     @Value("${authorization.jwt.secret}")
     private String secret;
@@ -39,6 +48,33 @@ public class TokenServiceImpl implements BearerTokenService {
     @Value("${authorization.jwt.expiration.days}")
     private int expirationDays;
 
+    @Value("${authorization.jwt.embed-roles}")
+    private boolean embedRoles;
+
+    private final VerifiedTokenClaimsCache verifiedTokenClaimsCache;
+
+    private final EmbeddedRolesRevocationList embeddedRolesRevocationList;
+
+    private SecretKey signingKey;
+
+    private JwtParser parser;
+
+    public TokenServiceImpl(VerifiedTokenClaimsCache verifiedTokenClaimsCache, EmbeddedRolesRevocationList embeddedRolesRevocationList) {
+        this.verifiedTokenClaimsCache = verifiedTokenClaimsCache;
+        this.embeddedRolesRevocationList = embeddedRolesRevocationList;
+    }
+
+    /**
+     * This method builds the signing key and the parser once, after the properties are injected.
+     * Both are immutable and thread-safe, so they are shared by all requests.
+     */
+    @PostConstruct
+    void initializeSigningKeyAndParser() {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     /**
      * This method generates a JWT token from an authentication object
      * @param authentication the authentication object
@@ -59,6 +95,28 @@ public class TokenServiceImpl implements BearerTokenService {
         return buildTokenWithDefaultParameters(username);
     }
 
+    /**
+     * This method generates a JWT token from a username and its role names.
+     * The role names are embedded in the token only when the embed roles mode is enabled.
+     * @param username the username
+     * @param roles the role names
+     * @return String the JWT token
+     */
+    @Override
+    public String generateToken(String username, Collection<String> roles) {
+        return buildTokenWithDefaultParameters(username, embedRoles ? roles : null);
+    }
+
+    /**
+     * This method invalidates the roles embedded in the tokens issued so far for a username.
+     * Those tokens remain valid, but their principal is loaded from the user store again.
+     * @param username the username
+     */
+    @Override
+    public void invalidateEmbeddedRoles(String username) {
+        embeddedRolesRevocationList.revoke(username);
+    }
+
     /**
      * This method generates a JWT token from a username and a secret.
      * It uses the default expiration days from the application.properties file.
@@ -66,25 +124,41 @@ public class TokenServiceImpl implements BearerTokenService {
      * @return String the JWT token
      */
     private String buildTokenWithDefaultParameters(String username) {
+        return buildTokenWithDefaultParameters(username, null);
+    }
+
+    /**
+     * This method generates a JWT token from a username, its optional role names and a secret.
+     * It uses the default expiration days from the application.properties file.
+     * @param username the username
+     * @param roles the role names to embed, or null to embed none
+     * @return String the JWT token
+     */
+    private String buildTokenWithDefaultParameters(String username, Collection<String> roles) {
         var issuedAt = new Date();
         var expiration = DateUtils.addDays(issuedAt, expirationDays);
         var key = getSigningKey();
-        return Jwts.builder()
+        var builder = Jwts.builder()
                 .subject(username)
                 .issuedAt(issuedAt)
-                .expiration(expiration)
+                .expiration(expiration);
+        if (roles != null) builder.claim(ROLES_CLAIM_NAME, List.copyOf(roles));
+        return builder
                 .signWith(key)
                 .compact();
     }
 
     /**
-     * This method extracts the username from a JWT token
+     * This method extracts the username from a JWT token.
+     * It uses the verified claims cache when the token has already been verified.
      * @param token the token
      * @return String the username
      */
     @Override
     public String getUsernameFromToken(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifiedTokenClaimsCache.get(token)
+                .map(BearerTokenClaims::username)
+                .orElseGet(() -> extractClaim(token, Claims::getSubject));
     }
 
     /**
@@ -94,10 +168,30 @@ public class TokenServiceImpl implements BearerTokenService {
      */
     @Override
     public boolean validateToken(String token) {
+        return parseVerifiedClaims(token).isPresent();
+    }
+
+    /**
+     * This method verifies a JWT token and returns its claims.
+     * Tokens verified before are served from the cache until they expire, so the signature is checked once per token.
+     * Embedded roles revoked after the token was issued are dropped from the returned claims.
+     * @param token the token
+     * @return Optional of BearerTokenClaims if the token is valid, empty otherwise
+     */
+    @Override
+    public Optional<BearerTokenClaims> parseVerifiedClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            LOGGER.error("JSON Web Token claims string is empty");
+            return Optional.empty();
+        }
+        var cachedClaims = verifiedTokenClaimsCache.get(token);
+        if (cachedClaims.isPresent()) return cachedClaims.map(this::dropRevokedEmbeddedRoles);
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-            LOGGER.info("Token is valid");
-            return true;
+            var payload = extractAllClaims(token);
+            var claims = new BearerTokenClaims(payload.getSubject(), payload.getIssuedAt(), payload.getExpiration(), extractRoles(payload));
+            verifiedTokenClaimsCache.put(token, claims);
+            LOGGER.debug("Token is valid");
+            return Optional.of(dropRevokedEmbeddedRoles(claims));
         }  catch (SignatureException e) {
             LOGGER.error("Invalid JSON Web Token Signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -109,7 +203,28 @@ public class TokenServiceImpl implements BearerTokenService {
         } catch (IllegalArgumentException e) {
             LOGGER.error("JSON Web Token claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Drop the embedded roles of a token when they were revoked after the token was issued
+     * @param claims the verified claims
+     * @return BearerTokenClaims the claims, without roles if they are no longer trusted
+     */
+    private BearerTokenClaims dropRevokedEmbeddedRoles(BearerTokenClaims claims) {
+        if (claims.hasEmbeddedRoles() && embeddedRolesRevocationList.isRevoked(claims)) return claims.withoutEmbeddedRoles();
+        return claims;
+    }
+
+    /**
+     * Extract the embedded role names from the token claims
+     * @param claims the claims
+     * @return List of role names, or null if the token does not carry roles
+     */
+    private List<String> extractRoles(Claims claims) {
+        var roles = claims.get(ROLES_CLAIM_NAME, List.class);
+        if (roles == null) return null;
+        return ((List<?>) roles).stream().map(String::valueOf).toList();
     }
 
     /**
@@ -130,7 +245,7 @@ public class TokenServiceImpl implements BearerTokenService {
      * @return Claims the claims
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -138,8 +253,7 @@ public class TokenServiceImpl implements BearerTokenService {
      * @return SecretKey the signing key
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     private boolean isTokenPresentIn(String authorizationParameter) {
@@ -1,5 +1,6 @@
 package com.acme.center.platform.iam.interfaces.rest;
 
+import com.acme.center.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.acme.center.platform.iam.domain.services.UserCommandService;
 import com.acme.center.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
 import com.acme.center.platform.iam.interfaces.rest.resources.SignInResource;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -51,7 +53,8 @@ public class AuthenticationController {
     @Operation(summary = "Sign-in", description = "Sign-in with the provided credentials.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User authenticated successfully."),
-            @ApiResponse(responseCode = "404", description = "User not found.")})
+            @ApiResponse(responseCode = "404", description = "User not found."),
+            @ApiResponse(responseCode = "429", description = "Password hashing capacity exceeded.")})
     public ResponseEntity<AuthenticatedUserResource> signIn(@RequestBody SignInResource signInResource) {
         var signInCommand = SignInCommandFromResourceAssembler.toCommandFromResource(signInResource);
         var authenticatedUser = userCommandService.handle(signInCommand);
@@ -71,7 +74,8 @@ public class AuthenticationController {
     @Operation(summary = "Sign-up", description = "Sign-up with the provided credentials.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created successfully."),
-            @ApiResponse(responseCode = "400", description = "Bad request.")})
+            @ApiResponse(responseCode = "400", description = "Bad request."),
+            @ApiResponse(responseCode = "429", description = "Password hashing capacity exceeded.")})
     public ResponseEntity<UserResource> signUp(@RequestBody SignUpResource signUpResource) {
         var signUpCommand = SignUpCommandFromResourceAssembler.toCommandFromResource(signUpResource);
         var user = userCommandService.handle(signUpCommand);
@@ -82,4 +86,13 @@ public class AuthenticationController {
         return new ResponseEntity<>(userResource, HttpStatus.CREATED);
 
     }
+
+    /**
+     * Handles a request rejected because every password hashing worker is busy.
+     * @return a 429 Too Many Requests response, so the client can retry later.
+     */
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<Void> handleHashingCapacityExceeded() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    }
 }
@@ -1,14 +1,17 @@
 package com.acme.center.platform.iam.interfaces.rest;
 
+import com.acme.center.platform.iam.domain.model.queries.ExportAllUsersQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetAllUsersQuery;
 import com.acme.center.platform.iam.domain.model.queries.GetUserByIdQuery;
 import com.acme.center.platform.iam.domain.services.UserQueryService;
 import com.acme.center.platform.iam.interfaces.rest.resources.UserResource;
 import com.acme.center.platform.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.acme.center.platform.shared.interfaces.rest.streaming.NdjsonResponseStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -23,15 +27,18 @@ import java.util.List;
  * It includes the following operations:
  * - GET /api/v1/users: returns all the users
  * - GET /api/v1/users/{userId}: returns the user with the given id
+ * - GET /api/v1/users/export: streams all the users as newline-delimited JSON
  **/
 @RestController
 @RequestMapping(value = "/api/v1/users", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Users", description = "Available User Endpoints")
 public class UsersController {
     private final UserQueryService userQueryService;
+    private final NdjsonResponseStreamer ndjsonResponseStreamer;
 
-    public UsersController(UserQueryService userQueryService) {
+    public UsersController(UserQueryService userQueryService, NdjsonResponseStreamer ndjsonResponseStreamer) {
         this.userQueryService = userQueryService;
+        this.ndjsonResponseStreamer = ndjsonResponseStreamer;
     }
 
     /**
@@ -73,4 +80,22 @@ public class UsersController {
         var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
         return ResponseEntity.ok(userResource);
     }
+
+    /**
+     * This method streams all the users, one user resource per line.
+     * @param response the HTTP response the user resources are written to
+     * @throws IOException if the response cannot be written
+     * @see UserResource
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all users", description = "Stream all the users available in the system as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users exported successfully."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized.")})
+    public void exportAllUsers(HttpServletResponse response) throws IOException {
+        try (var sequence = ndjsonResponseStreamer.open(response)) {
+            userQueryService.handle(new ExportAllUsersQuery(),
+                    userSummary -> sequence.write(UserResourceFromEntityAssembler.toResourceFromEntity(userSummary)));
+        }
+    }
 }
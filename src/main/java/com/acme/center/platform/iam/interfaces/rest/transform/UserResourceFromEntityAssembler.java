@@ -2,6 +2,7 @@ package com.acme.center.platform.iam.interfaces.rest.transform;
 
 import com.acme.center.platform.iam.domain.model.aggregates.User;
 import com.acme.center.platform.iam.domain.model.entities.Role;
+import com.acme.center.platform.iam.domain.model.readmodels.UserSummary;
 import com.acme.center.platform.iam.interfaces.rest.resources.UserResource;
 
 public class UserResourceFromEntityAssembler {
@@ -9,4 +10,8 @@ public class UserResourceFromEntityAssembler {
         var roles = user.getRoles().stream().map(Role::getStringName).toList();
         return new UserResource(user.getId(), user.getUsername(), roles);
     }
+
+    public static UserResource toResourceFromEntity(UserSummary summary) {
+        return new UserResource(summary.id(), summary.username(), summary.roles());
+    }
 }
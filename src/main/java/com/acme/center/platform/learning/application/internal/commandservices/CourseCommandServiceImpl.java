@@ -1,37 +1,83 @@
 package com.acme.center.platform.learning.application.internal.commandservices;
 
+import com.acme.center.platform.learning.application.internal.outboundservices.catalog.CourseCatalogCacheService;
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
 import com.acme.center.platform.learning.domain.model.commands.AddTutorialToCourseLearningPathCommand;
+import com.acme.center.platform.learning.domain.model.commands.AppendTutorialsToCourseLearningPathCommand;
 import com.acme.center.platform.learning.domain.model.commands.CreateCourseCommand;
 import com.acme.center.platform.learning.domain.model.commands.DeleteCourseCommand;
+import com.acme.center.platform.learning.domain.model.commands.ReplaceLearningPathCommand;
+import com.acme.center.platform.learning.domain.model.commands.SeedLearningPathPositionsCommand;
 import com.acme.center.platform.learning.domain.model.commands.UpdateCourseCommand;
+import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
+import com.acme.center.platform.learning.domain.model.valueobjects.LearningPath;
+import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
 import com.acme.center.platform.learning.domain.services.CourseCommandService;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.CourseRepository;
+import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.LearningPathItemRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the CourseCommandService interface.
  * <p>This class is responsible for handling the commands related to the Course aggregate. It requires a CourseRepository.</p>
+ * <p>Every change to a course evicts its cached catalog entry once the change is saved.
+ * Changes to a learning path evict its cached projection once they are committed.</p>
+ * <p>Tutorials are appended to a learning path without loading it: the course row is locked, only the last item
+ * is read, and the new items are inserted in JDBC batches, already linked to each other.
+ * Replacing a learning path diffs it against the current items, so only the inserts, deletes and relinks it needs are written.</p>
  * @see CourseCommandService
  * @see CourseRepository
+ * @see LearningPathItemRepository
+ * @see CourseCatalogCacheService
  */
 @Service
 public class CourseCommandServiceImpl implements CourseCommandService {
     private final CourseRepository courseRepository;
+    private final LearningPathItemRepository learningPathItemRepository;
+    private final CourseCatalogCacheService courseCatalogCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maximumAppendSize;
+    private final int maximumReplaceSize;
 
     /**
      * Constructor of the class.
      * @param courseRepository the repository to be used by the class.
+     * @param learningPathItemRepository the repository used to append learning path items.
+     * @param courseCatalogCacheService the course catalog cache to invalidate on changes.
+     * @param transactionManager the transaction manager used to append learning path items.
+     * @param maximumAppendSize the maximum number of tutorials appended to a learning path at once.
+     * @param maximumReplaceSize the maximum number of tutorials in a replaced learning path.
      */
-    public CourseCommandServiceImpl(CourseRepository courseRepository) {
+    public CourseCommandServiceImpl(
+            CourseRepository courseRepository,
+            LearningPathItemRepository learningPathItemRepository,
+            CourseCatalogCacheService courseCatalogCacheService,
+            PlatformTransactionManager transactionManager,
+            @Value("${learning.courses.learning-path.append.maximum-size}") int maximumAppendSize,
+            @Value("${learning.courses.learning-path.replace.maximum-size}") int maximumReplaceSize) {
         this.courseRepository = courseRepository;
+        this.learningPathItemRepository = learningPathItemRepository;
+        this.courseCatalogCacheService = courseCatalogCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maximumAppendSize = maximumAppendSize;
+        this.maximumReplaceSize = maximumReplaceSize;
     }
 
     // inherit javadoc
     @Override
-    public Long handle(CreateCourseCommand command) {
+    public Optional<Course> handle(CreateCourseCommand command) {
         if (courseRepository.existsByTitle(command.title()))
             throw new IllegalArgumentException("Course with title %s already exists".formatted(command.title()));
         var course = new Course(command);
@@ -40,7 +86,8 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         } catch (Exception e) {
             throw new IllegalArgumentException("Error saving course: %s".formatted(e.getMessage()));
         }
-        return course.getId();
+        courseCatalogCacheService.evictAll();
+        return Optional.of(course);
     }
 
     // inherit javadoc
@@ -54,6 +101,7 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         var courseToUpdate = result.get();
         try {
             var updatedCourse = courseRepository.save(courseToUpdate.updateInformation(command.title(), command.description()));
+            courseCatalogCacheService.evict(command.courseId());
             return Optional.of(updatedCourse);
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while updating course: %s".formatted(e.getMessage()));
@@ -63,11 +111,12 @@ public class CourseCommandServiceImpl implements CourseCommandService {
     // inherit javadoc
     @Override
     public void handle(DeleteCourseCommand command) {
-        if (!courseRepository.existsById(command.courseId())) {
-            throw new IllegalArgumentException("Course with id %s not found".formatted(command.courseId()));
-        }
+        var course = courseRepository.findById(command.courseId())
+                .orElseThrow(() -> new IllegalArgumentException("Course with id %s not found".formatted(command.courseId())));
         try {
-            courseRepository.deleteById(command.courseId());
+            courseRepository.delete(course);
+            courseCatalogCacheService.evict(command.courseId());
+            courseCatalogCacheService.evictLearningPath(command.courseId());
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while deleting course: %s".formatted(e.getMessage()));
         }
@@ -75,19 +124,144 @@ public class CourseCommandServiceImpl implements CourseCommandService {
 
     // inherit javadoc
     @Override
-    public void handle(AddTutorialToCourseLearningPathCommand command) {
-        if (!courseRepository.existsById(command.courseId())) {
-            throw new IllegalArgumentException("Course with id %s not found".formatted(command.courseId()));
+    public Optional<LearningPathItem> handle(AddTutorialToCourseLearningPathCommand command) {
+        var appendedItems = handle(new AppendTutorialsToCourseLearningPathCommand(command.courseId(), List.of(command.tutorialId())));
+        return Optional.of(appendedItems.getFirst());
+    }
+
+    // inherit javadoc
+    @Override
+    public List<LearningPathItem> handle(AppendTutorialsToCourseLearningPathCommand command) {
+        if (command.tutorialIds().size() > maximumAppendSize)
+            throw new IllegalArgumentException("Cannot append more than %d tutorials at once".formatted(maximumAppendSize));
+        List<LearningPathItem> appendedItems;
+        try {
+            appendedItems = transactionTemplate.execute(status -> appendToLearningPath(command.courseId(), command.tutorialIds()));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error while adding tutorials to course: %s".formatted(e.getMessage()));
         }
+        courseCatalogCacheService.evictLearningPath(command.courseId());
+        return appendedItems;
+    }
+
+    // inherit javadoc
+    @Override
+    public List<LearningPathItem> handle(ReplaceLearningPathCommand command) {
+        if (command.tutorialIds().size() > maximumReplaceSize)
+            throw new IllegalArgumentException("Cannot replace a learning path with more than %d tutorials".formatted(maximumReplaceSize));
+        List<LearningPathItem> items;
         try {
-            courseRepository.findById(command.courseId()).map(course -> {
-                course.addTutorialToLearningPath(command.tutorialId());
-                courseRepository.save(course);
-                return course;
-            });
+            items = transactionTemplate.execute(status -> replaceLearningPath(command.courseId(), command.tutorialIds()));
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while adding tutorial to course: %s".formatted(e.getMessage()));
+            throw new IllegalArgumentException("Error while replacing course learning path: %s".formatted(e.getMessage()));
+        }
+        courseCatalogCacheService.evictLearningPath(command.courseId());
+        return items;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Each course is numbered in its own transaction, with its row locked like appends and replacements,
+     * and its cached learning path is evicted once the transaction is committed.</p>
+     */
+    @Override
+    public long handle(SeedLearningPathPositionsCommand command) {
+        long seededCount = 0;
+        for (var courseId : learningPathItemRepository.findCourseIdsWithItemsWithoutPosition()) {
+            var seeded = transactionTemplate.execute(status -> courseRepository.findByIdForUpdate(courseId)
+                    .map(course -> course.getLearningPath().assignMissingPositions())
+                    .orElse(false));
+            if (Boolean.TRUE.equals(seeded)) {
+                courseCatalogCacheService.evictLearningPath(courseId);
+                seededCount++;
+            }
+        }
+        return seededCount;
+    }
+
+    /**
+     * Replace the learning path of a course, writing only the items that change
+     * <p>
+     *     The course row is locked first, like appends, and the current items are read with a single query.
+     *     New items are inserted last-first, so each one references a next item that is already inserted.
+     *     Removed items are deleted before the removed items they reference, so no statement breaks a next item reference.
+     *     Hibernate flushes the inserts, then the updates, then the deletes, each one in JDBC batches.
+     *     It must be called inside a transaction.
+     * </p>
+     * @param courseId the course id.
+     * @param tutorialIds the tutorial ids of the new learning path, in path order.
+     * @return the items of the new learning path, in path order.
+     * @throws IllegalArgumentException if the course does not exist.
+     */
+    private List<LearningPathItem> replaceLearningPath(Long courseId, List<TutorialId> tutorialIds) {
+        var course = courseRepository.findByIdForUpdate(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course with id %s not found".formatted(courseId)));
+        var currentItems = learningPathItemRepository.findByCourseId(courseId);
+        var items = LearningPath.replaceItems(course, currentItems, tutorialIds);
+        var keptItems = Collections.newSetFromMap(new IdentityHashMap<LearningPathItem, Boolean>());
+        keptItems.addAll(items);
+        var removedItems = currentItems.stream().filter(item -> !keptItems.contains(item)).toList();
+        learningPathItemRepository.saveAll(items.stream().filter(item -> Objects.isNull(item.getId())).toList().reversed());
+        learningPathItemRepository.deleteAll(orderForDeletion(removedItems));
+        return items;
+    }
+
+    /**
+     * Order removed learning path items so each one comes before the removed item it references
+     * @param removedItems the removed items, in any order.
+     * @return the removed items, each chain of removed items from its first item to its last one.
+     */
+    private static List<LearningPathItem> orderForDeletion(List<LearningPathItem> removedItems) {
+        var removedItemsById = removedItems.stream().collect(Collectors.toMap(LearningPathItem::getId, Function.identity()));
+        var referencedItemIds = removedItems.stream()
+                .filter(item -> !Objects.isNull(item.getNextItem()))
+                .map(item -> item.getNextItem().getId())
+                .collect(Collectors.toSet());
+        var orderedItems = new LinkedHashSet<LearningPathItem>();
+        removedItems.stream()
+                .filter(item -> !referencedItemIds.contains(item.getId()))
+                .forEach(item -> {
+                    for (var current = item; !Objects.isNull(current) && orderedItems.add(current); )
+                        current = Objects.isNull(current.getNextItem()) ? null : removedItemsById.get(current.getNextItem().getId());
+                });
+        orderedItems.addAll(removedItems);
+        return List.copyOf(orderedItems);
+    }
+
+    /**
+     * Append tutorials to the end of the learning path of a course
+     * <p>
+     *     The course row is locked first, so concurrent appends to the same course are applied one after the other.
+     *     Tutorials already in the learning path are rejected with a single query before anything is inserted.
+     *     Learning paths with items created before positions existed are numbered through the course aggregate instead.
+     *     It must be called inside a transaction.
+     * </p>
+     * @param courseId the course id.
+     * @param tutorialIds the tutorial ids, in path order.
+     * @return the appended items, in path order.
+     * @throws IllegalArgumentException if the course does not exist, or if any tutorial is already in its learning path.
+     */
+    private List<LearningPathItem> appendToLearningPath(Long courseId, List<TutorialId> tutorialIds) {
+        var course = courseRepository.findByIdForUpdate(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course with id %s not found".formatted(courseId)));
+        var tutorialIdValues = tutorialIds.stream().map(TutorialId::tutorialId).toList();
+        if (learningPathItemRepository.existsByCourseIdAndTutorialIdIn(courseId, tutorialIdValues))
+            throw new IllegalArgumentException("Tutorials are already in the learning path of course with id %s".formatted(courseId));
+        var lastItem = learningPathItemRepository.findFirstByCourseIdAndNextItemIsNullOrderByPositionDesc(courseId);
+        if (lastItem.isPresent() && Objects.isNull(lastItem.get().getPosition())) {
+            tutorialIds.forEach(course::addTutorialToLearningPath);
+            courseRepository.save(course);
+            var items = course.getLearningPath().getItemsInOrder();
+            return List.copyOf(items.subList(items.size() - tutorialIds.size(), items.size()));
         }
+        var appendedItems = LearningPath.createItemsAfter(course, lastItem.orElse(null), tutorialIds);
+        // Saved from the last one back, so every item references a next item that is already inserted
+        learningPathItemRepository.saveAll(appendedItems.reversed());
+        return appendedItems;
     }
 
 }
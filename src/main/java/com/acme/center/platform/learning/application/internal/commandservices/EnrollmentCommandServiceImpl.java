@@ -4,43 +4,76 @@ import com.acme.center.platform.learning.domain.exceptions.CourseNotFoundExcepti
 import com.acme.center.platform.learning.domain.exceptions.EnrollmentNotFoundException;
 import com.acme.center.platform.learning.domain.exceptions.EnrollmentRequestException;
 import com.acme.center.platform.learning.domain.exceptions.StudentNotFoundException;
+import com.acme.center.platform.learning.domain.model.aggregates.Course;
 import com.acme.center.platform.learning.domain.model.aggregates.Enrollment;
 import com.acme.center.platform.learning.domain.model.commands.*;
+import com.acme.center.platform.learning.domain.model.results.EnrollmentRequestOutcome;
+import com.acme.center.platform.learning.domain.model.results.EnrollmentRequestResult;
 import com.acme.center.platform.learning.domain.services.EnrollmentCommandService;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.CourseRepository;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.EnrollmentRepository;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.StudentRepository;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.locking.OptimisticLockingRetryExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the EnrollmentCommandService interface.
  * <p>This class is responsible for handling the commands related to the Enrollment aggregate. It requires a CourseRepository, a StudentRepository and an EnrollmentRepository.</p>
+ * <p>Commands that change an existing enrollment are idempotent, and are retried through the OptimisticLockingRetryExecutor
+ * when a concurrent command changed the same enrollment first.</p>
  * @see EnrollmentCommandService
  * @see CourseRepository
  * @see StudentRepository
  * @see EnrollmentRepository
+ * @see OptimisticLockingRetryExecutor
  */
 @Service
 public class EnrollmentCommandServiceImpl implements EnrollmentCommandService {
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final OptimisticLockingRetryExecutor optimisticLockingRetryExecutor;
+    private final int maximumBatchSize;
+    private final int seedBatchSize;
 
     /**
      * Constructor of the class.
      * @param courseRepository the repository to be used by the class.
      * @param studentRepository the repository to be used by the class.
      * @param enrollmentRepository the repository to be used by the class.
+     * @param optimisticLockingRetryExecutor the executor that retries commands on optimistic locking conflicts.
+     * @param maximumBatchSize the maximum number of requests in a request enrollments batch.
+     * @param seedBatchSize the number of enrollments seeded in each transaction of the days elapsed seeding.
      */
-    public EnrollmentCommandServiceImpl(CourseRepository courseRepository, StudentRepository studentRepository, EnrollmentRepository enrollmentRepository) {
+    public EnrollmentCommandServiceImpl(
+            CourseRepository courseRepository,
+            StudentRepository studentRepository,
+            EnrollmentRepository enrollmentRepository,
+            OptimisticLockingRetryExecutor optimisticLockingRetryExecutor,
+            @Value("${learning.enrollments.batch.maximum-size}") int maximumBatchSize,
+            @Value("${learning.enrollments.days-elapsed.seed.batch-size}") int seedBatchSize) {
         this.courseRepository = courseRepository;
         this.studentRepository = studentRepository;
         this.enrollmentRepository = enrollmentRepository;
+        this.optimisticLockingRetryExecutor = optimisticLockingRetryExecutor;
+        this.maximumBatchSize = maximumBatchSize;
+        this.seedBatchSize = seedBatchSize;
     }
 
     // inherit javadoc
     @Override
-    public Long handle(RequestEnrollmentCommand command) {
+    public Optional<Enrollment> handle(RequestEnrollmentCommand command) {
         if(!studentRepository.existsByAcmeStudentRecordId(command.studentRecordId())) {
             throw new StudentNotFoundException(command.studentRecordId());
         }
@@ -48,53 +81,150 @@ public class EnrollmentCommandServiceImpl implements EnrollmentCommandService {
         try {
             var enrollment = new Enrollment(command.studentRecordId(), course);
             enrollmentRepository.save(enrollment);
-            return enrollment.getId();
+            return Optional.of(enrollment);
+        } catch (Exception e) {
+            throw new EnrollmentRequestException(e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Students, courses and existing enrollments are looked up with one query each for the whole batch,
+     * and the new enrollments are saved together, so they are inserted in JDBC batches.</p>
+     */
+    @Override
+    @Transactional
+    public List<EnrollmentRequestResult> handle(RequestEnrollmentsBatchCommand command) {
+        var requests = command.requests();
+        if (requests.size() > maximumBatchSize)
+            throw new IllegalArgumentException("A batch cannot have more than " + maximumBatchSize + " requests");
+        var studentRecordIds = requests.stream()
+                .map(request -> request.studentRecordId().studentRecordId())
+                .collect(Collectors.toSet());
+        var courseIds = requests.stream()
+                .map(RequestEnrollmentCommand::courseId)
+                .collect(Collectors.toSet());
+        var existingStudentRecordIds = new HashSet<>(studentRepository.findExistingAcmeStudentRecordIds(studentRecordIds));
+        var coursesById = courseRepository.findAllById(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        var enrolledKeys = enrollmentRepository.findAllByStudentRecordIdsAndCourseIds(studentRecordIds, courseIds).stream()
+                .map(enrollment -> enrollmentKey(enrollment.getAcmeStudentRecordId().studentRecordId(), enrollment.getCourse().getId()))
+                .collect(Collectors.toSet());
+
+        var outcomes = new ArrayList<EnrollmentRequestOutcome>(requests.size());
+        var enrollments = new ArrayList<Enrollment>(requests.size());
+        var requestedEnrollments = new ArrayList<Enrollment>();
+        var requestedKeys = new HashSet<String>();
+        for (var request : requests) {
+            var studentRecordId = request.studentRecordId().studentRecordId();
+            var key = enrollmentKey(studentRecordId, request.courseId());
+            var course = coursesById.get(request.courseId());
+            EnrollmentRequestOutcome outcome;
+            Enrollment enrollment = null;
+            if (!existingStudentRecordIds.contains(studentRecordId)) outcome = EnrollmentRequestOutcome.STUDENT_NOT_FOUND;
+            else if (Objects.isNull(course)) outcome = EnrollmentRequestOutcome.COURSE_NOT_FOUND;
+            else if (enrolledKeys.contains(key)) outcome = EnrollmentRequestOutcome.ALREADY_ENROLLED;
+            else if (!requestedKeys.add(key)) outcome = EnrollmentRequestOutcome.DUPLICATE_REQUEST;
+            else {
+                outcome = EnrollmentRequestOutcome.REQUESTED;
+                enrollment = new Enrollment(request.studentRecordId(), course);
+                requestedEnrollments.add(enrollment);
+            }
+            outcomes.add(outcome);
+            enrollments.add(enrollment);
+        }
+        try {
+            enrollmentRepository.saveAll(requestedEnrollments);
+            enrollmentRepository.flush();
         } catch (Exception e) {
             throw new EnrollmentRequestException(e.getMessage());
         }
+
+        var results = new ArrayList<EnrollmentRequestResult>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var enrollment = enrollments.get(i);
+            var enrollmentId = Objects.isNull(enrollment) ? null : enrollment.getId();
+            results.add(new EnrollmentRequestResult(request.studentRecordId(), request.courseId(), outcomes.get(i), enrollmentId));
+        }
+        return results;
+    }
+
+    /**
+     * Build the key that identifies the enrollment of a student in a course.
+     * @param studentRecordId the student record id.
+     * @param courseId the course id.
+     * @return the key of the enrollment.
+     */
+    private static String enrollmentKey(String studentRecordId, Long courseId) {
+        return courseId + ":" + studentRecordId;
     }
 
     // inherit javadoc
     @Override
     public Long handle(ConfirmEnrollmentCommand command) {
-        enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
-            enrollment.confirm();
-            enrollmentRepository.save(enrollment);
-            return enrollment.getId();
-        }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId()));
-        return null;
+        return optimisticLockingRetryExecutor.execute("enrollment.confirm", () ->
+                enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
+                    enrollment.confirm();
+                    enrollmentRepository.save(enrollment);
+                    return enrollment.getId();
+                }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId())));
     }
 
     // inherit javadoc
     @Override
     public Long handle(RejectEnrollmentCommand command) {
-        enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
-            enrollment.reject();
-            enrollmentRepository.save(enrollment);
-            return enrollment.getId();
-        }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId()));
-        return null;
+        return optimisticLockingRetryExecutor.execute("enrollment.reject", () ->
+                enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
+                    enrollment.reject();
+                    enrollmentRepository.save(enrollment);
+                    return enrollment.getId();
+                }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId())));
     }
 
     // inherit javadoc
     @Override
     public Long handle(CancelEnrollmentCommand command) {
-        enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
-            enrollment.cancel();
-            enrollmentRepository.save(enrollment);
-            return enrollment.getId();
-        }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId()));
-        return null;
+        return optimisticLockingRetryExecutor.execute("enrollment.cancel", () ->
+                enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
+                    enrollment.cancel();
+                    enrollmentRepository.save(enrollment);
+                    return enrollment.getId();
+                }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId())));
     }
 
     // inherit javadoc
     @Override
     public Long handle(CompleteTutorialForEnrollmentCommand command) {
-        enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
-            enrollment.completeTutorial(command.tutorialId());
-            enrollmentRepository.save(enrollment);
-            return enrollment.getId();
-        }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId()));
-        return null;
+        return optimisticLockingRetryExecutor.execute("enrollment.complete-tutorial", () ->
+                enrollmentRepository.findById(command.enrollmentId()).map(enrollment -> {
+                    enrollment.completeTutorial(command.tutorialId());
+                    enrollmentRepository.save(enrollment);
+                    return enrollment.getId();
+                }).orElseThrow(() -> new EnrollmentNotFoundException(command.enrollmentId())));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Enrollments are seeded in batches of the seed batch size, each one in its own transaction.
+     * Each batch reads the enrollments with their progress record items in a single query,
+     * and is retried when a concurrent command changed one of its enrollments first.</p>
+     */
+    @Override
+    public long handle(SeedEnrollmentsDaysElapsedCommand command) {
+        long seededCount = 0;
+        Long afterId = 0L;
+        var enrollmentIds = enrollmentRepository.findIdsWithoutDaysElapsedAfterId(afterId, PageRequest.of(0, seedBatchSize));
+        while (!enrollmentIds.isEmpty()) {
+            var batchIds = enrollmentIds;
+            seededCount += optimisticLockingRetryExecutor.execute("enrollment.seed-days-elapsed", () -> {
+                var enrollments = enrollmentRepository.findAllWithProgressRecordItemsByIdIn(batchIds);
+                enrollments.forEach(Enrollment::seedDaysElapsed);
+                return enrollments.size();
+            });
+            afterId = enrollmentIds.getLast();
+            enrollmentIds = enrollmentRepository.findIdsWithoutDaysElapsedAfterId(afterId, PageRequest.of(0, seedBatchSize));
+        }
+        return seededCount;
     }
 }
@@ -5,10 +5,18 @@ import com.acme.center.platform.learning.domain.exceptions.StudentNotFoundExcept
 import com.acme.center.platform.learning.domain.model.aggregates.Student;
 import com.acme.center.platform.learning.domain.model.commands.CreateStudentCommand;
 import com.acme.center.platform.learning.domain.model.commands.UpdateStudentMetricsOnTutorialCompletedCommand;
+import com.acme.center.platform.learning.domain.model.commands.UpdateStudentsMetricsOnTutorialsCompletedCommand;
 import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 import com.acme.center.platform.learning.domain.services.StudentCommandService;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.StudentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Implementation of the StudentCommandService interface.
@@ -29,7 +37,7 @@ public class StudentCommandServiceImpl implements StudentCommandService {
 
     // inherit javadoc
     @Override
-    public AcmeStudentRecordId handle(CreateStudentCommand command) {
+    public Optional<Student> handle(CreateStudentCommand command) {
         // Fetch profile from an external service by email
         var profileId = externalProfileService.fetchProfileByEmail(command.email());
         if (profileId.isEmpty()) {
@@ -56,18 +64,37 @@ public class StudentCommandServiceImpl implements StudentCommandService {
         // Create a new student with the profile data.
         var student = new Student(profileId.get());
         studentRepository.save(student);
-        return student.getAcmeStudentRecordId();
+        return Optional.of(student);
     }
 
     // inherit javadoc
     @Override
+    @Transactional
     public AcmeStudentRecordId handle(UpdateStudentMetricsOnTutorialCompletedCommand command) {
-        studentRepository.findByAcmeStudentRecordId(command.studentRecordId()).map(student -> {
-            // Update the student metrics
-            student.updateMetricsOnTutorialCompleted();
-            studentRepository.save(student);
-            return student.getAcmeStudentRecordId();
-        }).orElseThrow(() -> new StudentNotFoundException(command.studentRecordId()));
-        return null;
+        // Increment the student metrics in the database, without loading the student
+        var updatedStudents = studentRepository.incrementTotalCompletedTutorials(
+                List.of(command.studentRecordId().studentRecordId()), 1, new Date());
+        if (updatedStudents == 0) throw new StudentNotFoundException(command.studentRecordId());
+        return command.studentRecordId();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Students with the same number of completed tutorials are updated together,
+     * so the whole command takes one atomic update per distinct number of completed tutorials.</p>
+     */
+    @Override
+    @Transactional
+    public int handle(UpdateStudentsMetricsOnTutorialsCompletedCommand command) {
+        var studentRecordIdsByCompletedTutorials = new TreeMap<Integer, List<String>>();
+        command.completedTutorialsByStudentRecordId().forEach((studentRecordId, completedTutorials) ->
+                studentRecordIdsByCompletedTutorials
+                        .computeIfAbsent(completedTutorials, count -> new ArrayList<>())
+                        .add(studentRecordId.studentRecordId()));
+        var updatedAt = new Date();
+        var updatedStudents = 0;
+        for (var entry : studentRecordIdsByCompletedTutorials.entrySet())
+            updatedStudents += studentRepository.incrementTotalCompletedTutorials(entry.getValue(), entry.getKey(), updatedAt);
+        return updatedStudents;
     }
 }
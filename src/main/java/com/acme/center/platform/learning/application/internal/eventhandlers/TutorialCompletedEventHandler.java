@@ -1,52 +1,77 @@
 package com.acme.center.platform.learning.application.internal.eventhandlers;
 
-import com.acme.center.platform.learning.domain.model.commands.UpdateStudentMetricsOnTutorialCompletedCommand;
+import com.acme.center.platform.learning.application.internal.metrics.StudentMetricsWriteBehindCounters;
+import com.acme.center.platform.learning.domain.model.commands.UpdateStudentsMetricsOnTutorialsCompletedCommand;
 import com.acme.center.platform.learning.domain.model.events.TutorialCompletedEvent;
-import com.acme.center.platform.learning.domain.model.queries.GetEnrollmentByIdQuery;
-import com.acme.center.platform.learning.domain.services.EnrollmentQueryService;
+import com.acme.center.platform.learning.domain.model.events.TutorialCompletedEventPayload;
+import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 import com.acme.center.platform.learning.domain.services.StudentCommandService;
-import org.springframework.context.event.EventListener;
+import com.acme.center.platform.shared.infrastructure.outbox.OutboxEventHandler;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+
 /**
  * Event handler for the TutorialCompletedEvent.
+ * <p>
+ *     Completed tutorials are read from the outbox in batches, after the completion is committed, and applied
+ *     to the student metrics with one update per student for all the tutorials completed in the batch.
+ *     The completion request only pays for storing the event.
+ *     When the write-behind counters are enabled, the completed tutorials are added to them instead, once the
+ *     outbox transaction commits, and written to the student metrics on their next flush. A batch that rolls back
+ *     is dispatched again without having touched the counters.
+ * </p>
  */
 @Service
-public class TutorialCompletedEventHandler {
+public class TutorialCompletedEventHandler implements OutboxEventHandler<TutorialCompletedEventPayload> {
     private final StudentCommandService studentCommandService;
-    private final EnrollmentQueryService enrollmentQueryService;
+    private final StudentMetricsWriteBehindCounters studentMetricsWriteBehindCounters;
 
     /**
      * Constructor.
      *
      * @param studentCommandService the student command service
-     * @param enrollmentQueryService the enrollment query service
+     * @param studentMetricsWriteBehindCounters the student metrics write-behind counters
      * @see StudentCommandService
-     * @see EnrollmentQueryService
+     * @see StudentMetricsWriteBehindCounters
      */
-    public TutorialCompletedEventHandler(StudentCommandService studentCommandService, EnrollmentQueryService enrollmentQueryService) {
+    public TutorialCompletedEventHandler(StudentCommandService studentCommandService, StudentMetricsWriteBehindCounters studentMetricsWriteBehindCounters) {
         this.studentCommandService = studentCommandService;
-        this.enrollmentQueryService = enrollmentQueryService;
+        this.studentMetricsWriteBehindCounters = studentMetricsWriteBehindCounters;
+    }
+
+    // inherited javadoc
+    @Override
+    public String getEventType() {
+        return TutorialCompletedEvent.EVENT_TYPE;
+    }
+
+    // inherited javadoc
+    @Override
+    public Class<TutorialCompletedEventPayload> getPayloadType() {
+        return TutorialCompletedEventPayload.class;
     }
 
     /**
-     * Handles the TutorialCompletedEvent.
+     * Handles a batch of TutorialCompletedEvent.
      * <p>
-     *     Updates the student metrics when a tutorial is completed. The student metrics are updated by the
-     *     {@link UpdateStudentMetricsOnTutorialCompletedCommand}.
+     *     Counts the completed tutorials of each student and updates the student metrics by the
+     *     {@link UpdateStudentsMetricsOnTutorialsCompletedCommand}.
      * </p>
      *
-     * @param event The {@link TutorialCompletedEvent} event
+     * @param payloads The {@link TutorialCompletedEventPayload} payloads of the events
      */
-    @EventListener(TutorialCompletedEventHandler.class)
-    public void on(TutorialCompletedEvent event) {
-        var getEnrollmentByIdQuery = new GetEnrollmentByIdQuery(event.getEnrollmentId());
-        var enrollment = enrollmentQueryService.handle(getEnrollmentByIdQuery);
-        if (enrollment.isPresent()) {
-            var studentEnrollment = enrollment.get();
-            var updateStudentMetricsOnTutorialCompletedCommand = new UpdateStudentMetricsOnTutorialCompletedCommand(studentEnrollment.getAcmeStudentRecordId());
-            studentCommandService.handle(updateStudentMetricsOnTutorialCompletedCommand);
+    @Override
+    public void handle(List<TutorialCompletedEventPayload> payloads) {
+        var completedTutorialsByStudentRecordId = new HashMap<AcmeStudentRecordId, Integer>();
+        payloads.forEach(payload -> completedTutorialsByStudentRecordId.merge(
+                new AcmeStudentRecordId(payload.studentRecordId()), 1, Integer::sum));
+        if (completedTutorialsByStudentRecordId.isEmpty()) return;
+        if (studentMetricsWriteBehindCounters.isEnabled()) {
+            studentMetricsWriteBehindCounters.addCompletedTutorialsAfterCommit(completedTutorialsByStudentRecordId);
+            return;
         }
-
+        studentCommandService.handle(new UpdateStudentsMetricsOnTutorialsCompletedCommand(completedTutorialsByStudentRecordId));
     }
 }
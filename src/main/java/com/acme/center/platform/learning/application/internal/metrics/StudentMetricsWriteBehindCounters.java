@@ -0,0 +1,159 @@
+package com.acme.center.platform.learning.application.internal.metrics;
+
+import com.acme.center.platform.learning.domain.model.commands.UpdateStudentsMetricsOnTutorialsCompletedCommand;
+import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
+import com.acme.center.platform.learning.domain.services.StudentCommandService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind counters for the completed tutorials of each student.
+ * <p>
+ *     When enabled, completed tutorials are added to a striped in-memory counter per student instead of being written
+ *     to the student row right away, so concurrent completions never contend on the same row. The pending deltas are
+ *     written to the database in batches on every flush, and drained when the application shuts down.
+ *     Deltas not flushed yet are lost if the process dies, so this is opt-in.
+ *     Completions read in a transaction are staged and only added once it commits, so a rolled-back read that is
+ *     retried never counts the same completions twice.
+ * </p>
+ * <p>
+ *     A flush only subtracts from a counter what it writes, so completions added during the flush are kept for
+ *     the next one. The deltas are subtracted before they are written and added back if the write fails, so a read
+ *     never adds a pending delta to a total that already includes it. While the write runs, reads may briefly miss
+ *     the deltas being written, but never count them twice.
+ *     Idle counters are removed, and a completion added to a counter while it was being removed is
+ *     moved to a new counter by {@link #addCompletedTutorials(AcmeStudentRecordId, int)}.
+ * </p>
+ * <p>
+ *     Flushes are serialized, so the shutdown drain never writes the same deltas as a scheduled flush still running.
+ * </p>
+ */
+@Component
+public class StudentMetricsWriteBehindCounters {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StudentMetricsWriteBehindCounters.class);
+
+    private final StudentCommandService studentCommandService;
+    private final boolean enabled;
+    private final ConcurrentHashMap<AcmeStudentRecordId, LongAdder> pendingCompletedTutorials = new ConcurrentHashMap<>();
+
+    public StudentMetricsWriteBehindCounters(
+            StudentCommandService studentCommandService,
+            @Value("${learning.metrics.write-behind.enabled}") boolean enabled) {
+        this.studentCommandService = studentCommandService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Check if the write-behind counters are enabled
+     * @return true if completed tutorials must be added to the counters, false if they must be written right away
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add completed tutorials to the counter of a student
+     * @param studentRecordId the student record id
+     * @param completedTutorials the number of completed tutorials, greater than 0
+     * @throws IllegalArgumentException if the number of completed tutorials is less than 1
+     */
+    public void addCompletedTutorials(AcmeStudentRecordId studentRecordId, int completedTutorials) {
+        if (completedTutorials < 1) throw new IllegalArgumentException("Completed tutorials must be greater than 0");
+        var counter = pendingCompletedTutorials.computeIfAbsent(studentRecordId, id -> new LongAdder());
+        counter.add(completedTutorials);
+        // The counter was removed as idle before the delta was added, so the delta is moved to the current counter
+        if (pendingCompletedTutorials.get(studentRecordId) != counter)
+            pendingCompletedTutorials.computeIfAbsent(studentRecordId, id -> new LongAdder()).add(completedTutorials);
+    }
+
+    /**
+     * Add completed tutorials to the counters of several students once the current transaction commits
+     * <p>
+     *     The deltas are staged in a {@link TransactionSynchronization}, so they are dropped if the transaction rolls back.
+     *     Without a transaction they are added right away.
+     * </p>
+     * @param completedTutorialsByStudentRecordId the number of completed tutorials of each student, greater than 0
+     */
+    public void addCompletedTutorialsAfterCommit(Map<AcmeStudentRecordId, Integer> completedTutorialsByStudentRecordId) {
+        var stagedCompletedTutorials = Map.copyOf(completedTutorialsByStudentRecordId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stagedCompletedTutorials.forEach(this::addCompletedTutorials);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stagedCompletedTutorials.forEach(StudentMetricsWriteBehindCounters.this::addCompletedTutorials);
+            }
+        });
+    }
+
+    /**
+     * Get the completed tutorials of a student not written to the database yet
+     * @param studentRecordId the student record id
+     * @return the pending completed tutorials of the student
+     */
+    public int getPendingCompletedTutorials(AcmeStudentRecordId studentRecordId) {
+        var counter = pendingCompletedTutorials.get(studentRecordId);
+        return counter == null ? 0 : counter.intValue();
+    }
+
+    /**
+     * Write the pending completed tutorials of every student to the database
+     * <p>If the write fails, the deltas are added back and written on the next flush.</p>
+     */
+    @Scheduled(fixedDelayString = "${learning.metrics.write-behind.flush-interval-ms}")
+    public synchronized void flush() {
+        var counters = new HashMap<AcmeStudentRecordId, LongAdder>();
+        var deltas = new HashMap<AcmeStudentRecordId, Integer>();
+        pendingCompletedTutorials.forEach((studentRecordId, counter) -> {
+            var delta = counter.intValue();
+            if (delta > 0) {
+                counters.put(studentRecordId, counter);
+                deltas.put(studentRecordId, delta);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            deltas.forEach((studentRecordId, delta) -> counters.get(studentRecordId).add(-delta));
+            try {
+                studentCommandService.handle(new UpdateStudentsMetricsOnTutorialsCompletedCommand(deltas));
+            } catch (RuntimeException e) {
+                deltas.forEach((studentRecordId, delta) -> counters.get(studentRecordId).add(delta));
+                LOGGER.warn("Unable to write completed tutorials of {} students, retrying on next flush", deltas.size(), e);
+                return;
+            }
+        }
+        removeIdleCounters(counters.keySet());
+    }
+
+    /**
+     * Write the pending completed tutorials before the application shuts down
+     */
+    @PreDestroy
+    void drain() {
+        if (enabled) flush();
+    }
+
+    /**
+     * Remove the counters with no pending delta, except the ones just flushed, which are likely to be used again soon
+     * @param flushedStudentRecordIds the student record ids of the counters just flushed
+     */
+    private void removeIdleCounters(Set<AcmeStudentRecordId> flushedStudentRecordIds) {
+        for (Map.Entry<AcmeStudentRecordId, LongAdder> entry : pendingCompletedTutorials.entrySet()) {
+            if (flushedStudentRecordIds.contains(entry.getKey())) continue;
+            pendingCompletedTutorials.computeIfPresent(entry.getKey(), (id, counter) -> counter.sum() == 0 ? null : counter);
+        }
+    }
+}
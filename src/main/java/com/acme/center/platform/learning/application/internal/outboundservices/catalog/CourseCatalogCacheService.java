@@ -0,0 +1,59 @@
+package com.acme.center.platform.learning.application.internal.outboundservices.catalog;
+
+import com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseLearningPath;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * CourseCatalogCacheService interface
+ * This interface is used to read course catalog entries and course learning paths through a cache,
+ * and to keep them up to date when courses change
+ */
+public interface CourseCatalogCacheService {
+
+    /**
+     * Get the cached catalog entry of a course, loading it when absent
+     * @param courseId the course id
+     * @param loader the function that reads the entry on a cache miss
+     * @return the catalog entry, or an empty optional if the course does not exist
+     */
+    Optional<CourseCatalogEntry> get(Long courseId, Function<Long, Optional<CourseCatalogEntry>> loader);
+
+    /**
+     * Get the cached catalog entries of all courses, loading them when absent
+     * @param loader the function that reads all entries on a cache miss
+     * @return the catalog entries of all courses
+     */
+    List<CourseCatalogEntry> getAll(Supplier<List<CourseCatalogEntry>> loader);
+
+    /**
+     * Evict the cached catalog entry of a course, and the cached entries of all courses
+     * @param courseId the course id
+     */
+    void evict(Long courseId);
+
+    /**
+     * Evict the cached entries of all courses
+     */
+    void evictAll();
+
+    /**
+     * Get the cached learning path of a course, loading it when absent
+     * @param courseId the course id
+     * @param loader the function that reads the learning path on a cache miss
+     * @return the learning path, or an empty optional if the course does not exist
+     */
+    Optional<CourseLearningPath> getLearningPath(Long courseId, Function<Long, Optional<CourseLearningPath>> loader);
+
+    /**
+     * Evict the cached learning path of a course
+     * <p>It must be called after the change to the learning path is committed, so the next read loads the committed path.
+     * Only the cache of this instance is evicted: other instances keep serving their cached path until its time to live expires.</p>
+     * @param courseId the course id
+     */
+    void evictLearningPath(Long courseId);
+}
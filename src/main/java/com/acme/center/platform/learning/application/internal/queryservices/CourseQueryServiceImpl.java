@@ -1,33 +1,57 @@
 package com.acme.center.platform.learning.application.internal.queryservices;
 
+import com.acme.center.platform.learning.application.internal.outboundservices.catalog.CourseCatalogCacheService;
 import com.acme.center.platform.learning.domain.exceptions.CourseNotFoundException;
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
 import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseLearningPath;
+import com.acme.center.platform.learning.domain.model.queries.ExportAllCoursesQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetAllCoursesQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetCourseByIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseCatalogEntryByIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseCatalogQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseLearningPathQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetLearningPathItemByCourseIdAndTutorialIdQuery;
 import com.acme.center.platform.learning.domain.services.CourseQueryService;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.CourseRepository;
+import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.LearningPathItemRepository;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.DetachingStreamReader;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the CourseQueryService interface.
+ * <p>Course catalog entries and course learning paths are read through the course catalog cache.</p>
  */
 @Service
 public class CourseQueryServiceImpl implements CourseQueryService {
     private final CourseRepository courseRepository;
+    private final LearningPathItemRepository learningPathItemRepository;
+    private final DetachingStreamReader detachingStreamReader;
+    private final CourseCatalogCacheService courseCatalogCacheService;
 
     /**
      * Constructor.
      *
      * @param courseRepository the course repository
+     * @param learningPathItemRepository the learning path item repository
+     * @param detachingStreamReader the reader used to export courses
+     * @param courseCatalogCacheService the course catalog cache
      * @see CourseRepository
+     * @see LearningPathItemRepository
+     * @see CourseCatalogCacheService
      */
-    public CourseQueryServiceImpl(CourseRepository courseRepository) {
+    public CourseQueryServiceImpl(CourseRepository courseRepository, LearningPathItemRepository learningPathItemRepository, DetachingStreamReader detachingStreamReader, CourseCatalogCacheService courseCatalogCacheService) {
         this.courseRepository = courseRepository;
+        this.learningPathItemRepository = learningPathItemRepository;
+        this.detachingStreamReader = detachingStreamReader;
+        this.courseCatalogCacheService = courseCatalogCacheService;
     }
 
     // inherited javadoc
@@ -42,13 +66,57 @@ public class CourseQueryServiceImpl implements CourseQueryService {
         return courseRepository.findAll();
     }
 
+    // inherited javadoc
+    @Override
+    public Optional<CourseCatalogEntry> handle(GetCourseCatalogEntryByIdQuery query) {
+        return courseCatalogCacheService.get(query.courseId(), courseRepository::findCatalogEntryById);
+    }
+
+    // inherited javadoc
+    @Override
+    public List<CourseCatalogEntry> handle(GetCourseCatalogQuery query) {
+        return courseCatalogCacheService.getAll(courseRepository::findAllCatalogEntries);
+    }
+
+    // inherited javadoc
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(ExportAllCoursesQuery query, Consumer<Course> consumer) {
+        detachingStreamReader.forEach(courseRepository.streamAllByOrderByIdAsc(), consumer);
+    }
+
 
     // inherited javadoc
     @Override
     public Optional<LearningPathItem> handle(GetLearningPathItemByCourseIdAndTutorialIdQuery query) {
-        if (!courseRepository.existsById(query.courseId())) throw new CourseNotFoundException(query.courseId());
-        return courseRepository.findById(query.courseId())
-                .map(course -> course.getLearningPath()
-                        .getLearningPathItemWithTutorialId(query.tutorialId()));
+        var course = courseRepository.findById(query.courseId())
+                .orElseThrow(() -> new CourseNotFoundException(query.courseId()));
+        return Optional.ofNullable(course.getLearningPath().getLearningPathItemWithTutorialId(query.tutorialId()));
+    }
+
+    // inherited javadoc
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CourseLearningPath> handle(GetCourseLearningPathQuery query) {
+        return courseCatalogCacheService.getLearningPath(query.courseId(), this::loadLearningPath);
+    }
+
+    /**
+     * Load the flattened learning path of a course
+     * <p>
+     *     The entries are read with a single ordered projection query. Paths with items created before positions
+     *     existed are ordered by their next item references instead, through the course aggregate, without numbering them.
+     * </p>
+     * @param courseId the course id
+     * @return the learning path, or an empty optional if the course does not exist
+     */
+    private Optional<CourseLearningPath> loadLearningPath(Long courseId) {
+        var entries = learningPathItemRepository.findLearningPathEntriesByCourseId(courseId);
+        if (entries.isEmpty())
+            return courseRepository.existsById(courseId) ? Optional.of(CourseLearningPath.of(courseId, entries)) : Optional.empty();
+        if (entries.stream().noneMatch(entry -> Objects.isNull(entry.position())))
+            return Optional.of(CourseLearningPath.of(courseId, entries));
+        return courseRepository.findById(courseId)
+                .map(course -> CourseLearningPath.fromItems(courseId, course.getLearningPath().getItemsInOrder()));
     }
 }
@@ -2,12 +2,18 @@ package com.acme.center.platform.learning.application.internal.queryservices;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Enrollment;
 import com.acme.center.platform.learning.domain.model.queries.*;
+import com.acme.center.platform.learning.domain.model.results.EnrollmentsPage;
 import com.acme.center.platform.learning.domain.services.EnrollmentQueryService;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.EnrollmentRepository;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.DetachingStreamReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the EnrollmentQueryService interface.
@@ -15,15 +21,28 @@ import java.util.Optional;
 @Service
 public class EnrollmentQueryServiceImpl implements EnrollmentQueryService {
     private final EnrollmentRepository enrollmentRepository;
+    private final DetachingStreamReader detachingStreamReader;
+    private final int defaultPageSize;
+    private final int maximumPageSize;
 
     /**
      * Constructor.
      *
      * @param enrollmentRepository the enrollment repository
+     * @param detachingStreamReader the reader used to export enrollments
+     * @param defaultPageSize the page size used when a page query does not set one
+     * @param maximumPageSize the largest page size a page query can get
      * @see EnrollmentRepository
      */
-    public EnrollmentQueryServiceImpl(EnrollmentRepository enrollmentRepository) {
+    public EnrollmentQueryServiceImpl(
+            EnrollmentRepository enrollmentRepository,
+            DetachingStreamReader detachingStreamReader,
+            @Value("${learning.enrollments.page.default-size}") int defaultPageSize,
+            @Value("${learning.enrollments.page.maximum-size}") int maximumPageSize) {
         this.enrollmentRepository = enrollmentRepository;
+        this.detachingStreamReader = detachingStreamReader;
+        this.defaultPageSize = defaultPageSize;
+        this.maximumPageSize = maximumPageSize;
     }
 
     // inherited javadoc
@@ -44,6 +63,25 @@ public class EnrollmentQueryServiceImpl implements EnrollmentQueryService {
         return enrollmentRepository.findAll();
     }
 
+    // inherited javadoc
+    @Override
+    public EnrollmentsPage handle(GetEnrollmentsPageQuery query) {
+        var pageSize = query.size() == null ? defaultPageSize : Math.min(query.size(), maximumPageSize);
+        var afterId = query.afterId() == null ? 0L : query.afterId();
+        // One extra row tells whether there is a next page without a count query
+        var enrollments = enrollmentRepository.findPageAfterId(afterId, query.status(), query.courseId(), PageRequest.ofSize(pageSize + 1));
+        if (enrollments.size() <= pageSize) return new EnrollmentsPage(enrollments, null);
+        var pageEnrollments = enrollments.subList(0, pageSize);
+        return new EnrollmentsPage(pageEnrollments, pageEnrollments.getLast().getId());
+    }
+
+    // inherited javadoc
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(ExportAllEnrollmentsQuery query, Consumer<Enrollment> consumer) {
+        detachingStreamReader.forEach(enrollmentRepository.streamAllWithCourse(), consumer);
+    }
+
     // inherited javadoc
     @Override
     public List<Enrollment> handle(GetAllEnrollmentsByCourseIdQuery query) {
@@ -1,42 +1,59 @@
 package com.acme.center.platform.learning.application.internal.queryservices;
 
+import com.acme.center.platform.learning.application.internal.metrics.StudentMetricsWriteBehindCounters;
 import com.acme.center.platform.learning.domain.model.aggregates.Student;
 import com.acme.center.platform.learning.domain.model.queries.ExistsByAcmeStudentRecordIdQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetStudentByAcmeStudentRecordIdQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetStudentByProfileIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetStudentVersionByAcmeStudentRecordIdQuery;
 import com.acme.center.platform.learning.domain.services.StudentQueryService;
 import com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories.StudentRepository;
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
 /**
  * Implementation of the StudentQueryService interface.
+ * <p>Students are returned with the completed tutorials still pending in the write-behind counters included in their metrics.
+ * Their versions carry the pending completed tutorials as revision, since those are not reflected in the updated at timestamp yet.</p>
  */
 @Service
 public class StudentQueryServiceImpl implements StudentQueryService {
     private final StudentRepository studentRepository;
+    private final StudentMetricsWriteBehindCounters studentMetricsWriteBehindCounters;
 
     /**
      * Constructor.
      *
      * @param studentRepository the student repository
+     * @param studentMetricsWriteBehindCounters the student metrics write-behind counters
      * @see StudentRepository
+     * @see StudentMetricsWriteBehindCounters
      */
-    public StudentQueryServiceImpl(StudentRepository studentRepository) {
+    public StudentQueryServiceImpl(StudentRepository studentRepository, StudentMetricsWriteBehindCounters studentMetricsWriteBehindCounters) {
         this.studentRepository = studentRepository;
+        this.studentMetricsWriteBehindCounters = studentMetricsWriteBehindCounters;
     }
 
     // inherited javadoc
     @Override
     public Optional<Student> handle(GetStudentByAcmeStudentRecordIdQuery query) {
-        return studentRepository.findByAcmeStudentRecordId(query.studentRecordId());
+        return studentRepository.findByAcmeStudentRecordId(query.studentRecordId()).map(this::includePendingMetrics);
+    }
+
+    // inherited javadoc
+    @Override
+    public Optional<AggregateVersion> handle(GetStudentVersionByAcmeStudentRecordIdQuery query) {
+        return studentRepository.findVersionByAcmeStudentRecordId(query.studentRecordId().studentRecordId())
+                .map(version -> version.withRevision(
+                        studentMetricsWriteBehindCounters.getPendingCompletedTutorials(query.studentRecordId())));
     }
 
     // inherited javadoc
     @Override
     public Optional<Student> handle(GetStudentByProfileIdQuery query) {
-        return studentRepository.findByProfileId(query.profileId());
+        return studentRepository.findByProfileId(query.profileId()).map(this::includePendingMetrics);
     }
 
     // inherited javadoc
@@ -44,4 +61,15 @@ public class StudentQueryServiceImpl implements StudentQueryService {
     public boolean handle(ExistsByAcmeStudentRecordIdQuery query) {
         return studentRepository.existsByAcmeStudentRecordId(query.studentRecordId());
     }
+
+    /**
+     * Include the completed tutorials pending in the write-behind counters in the metrics of a student
+     * @param student the student
+     * @return the same student
+     */
+    private Student includePendingMetrics(Student student) {
+        student.includePendingCompletedTutorials(
+                studentMetricsWriteBehindCounters.getPendingCompletedTutorials(student.getAcmeStudentRecordId()));
+        return student;
+    }
 }
@@ -0,0 +1,35 @@
+package com.acme.center.platform.learning.application.internal.startup;
+
+import com.acme.center.platform.learning.domain.model.commands.SeedEnrollmentsDaysElapsedCommand;
+import com.acme.center.platform.learning.domain.services.EnrollmentCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * EnrollmentsDaysElapsedSeeder class
+ * <p>
+ *     This class seeds the days elapsed aggregate of the enrollments created before it existed, once, at startup.
+ *     It runs after every singleton is created and before the web server starts, so no request reads an enrollment
+ *     whose aggregate is not seeded yet. Once every enrollment is seeded, it only runs a single query.
+ * </p>
+ */
+@Component
+public class EnrollmentsDaysElapsedSeeder implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnrollmentsDaysElapsedSeeder.class);
+    private final EnrollmentCommandService enrollmentCommandService;
+
+    public EnrollmentsDaysElapsedSeeder(EnrollmentCommandService enrollmentCommandService) {
+        this.enrollmentCommandService = enrollmentCommandService;
+    }
+
+    /**
+     * Seed the days elapsed aggregate of the enrollments that do not have it yet
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        var seededCount = enrollmentCommandService.handle(new SeedEnrollmentsDaysElapsedCommand());
+        if (seededCount > 0) LOGGER.info("Seeded the days elapsed aggregate of {} enrollments", seededCount);
+    }
+}
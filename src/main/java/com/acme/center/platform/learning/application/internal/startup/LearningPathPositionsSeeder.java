@@ -0,0 +1,35 @@
+package com.acme.center.platform.learning.application.internal.startup;
+
+import com.acme.center.platform.learning.domain.model.commands.SeedLearningPathPositionsCommand;
+import com.acme.center.platform.learning.domain.services.CourseCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * LearningPathPositionsSeeder class
+ * <p>
+ *     This class numbers the learning path items created before positions existed, once, at startup.
+ *     It runs after every singleton is created and before the web server starts, so learning paths are read
+ *     through the position index from the first request. Once every item is numbered, it only runs a single query.
+ * </p>
+ */
+@Component
+public class LearningPathPositionsSeeder implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LearningPathPositionsSeeder.class);
+    private final CourseCommandService courseCommandService;
+
+    public LearningPathPositionsSeeder(CourseCommandService courseCommandService) {
+        this.courseCommandService = courseCommandService;
+    }
+
+    /**
+     * Number the learning path items of the courses that have items without a position
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        var seededCount = courseCommandService.handle(new SeedLearningPathPositionsCommand());
+        if (seededCount > 0) LOGGER.info("Numbered the learning path items of {} courses", seededCount);
+    }
+}
@@ -5,21 +5,27 @@ import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
 import com.acme.center.platform.learning.domain.model.valueobjects.LearningPath;
 import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
 import com.acme.center.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Course aggregate root
  * @summary
  * This aggregate root represents a course.
  * A course is a learning resource with a title, description, and a learning path.
+ * Courses rarely change, so they are kept in the second-level cache when the {@code l2cache} profile is active.
  * @see LearningPath
  * @since 1.0
  */
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
 public class Course extends AuditableAbstractAggregateRoot<Course> {
     private String title;
     private String description;
@@ -1,18 +1,20 @@
 package com.acme.center.platform.learning.domain.model.aggregates;
 
+import com.acme.center.platform.learning.domain.model.entities.ProgressRecordItem;
 import com.acme.center.platform.learning.domain.model.events.TutorialCompletedEvent;
 import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 import com.acme.center.platform.learning.domain.model.valueobjects.EnrollmentStatus;
 import com.acme.center.platform.learning.domain.model.valueobjects.ProgressRecord;
 import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
 import com.acme.center.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
-import jakarta.persistence.Embedded;
-import jakarta.persistence.Entity;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.Getter;
 
+import java.util.Date;
+import java.util.Objects;
+
 @Entity
+@Table(indexes = @Index(name = "ix_enrollments_status_id", columnList = "status, id"))
 public class Enrollment extends AuditableAbstractAggregateRoot<Enrollment> {
     @Getter
     @Embedded
@@ -28,6 +30,16 @@ public class Enrollment extends AuditableAbstractAggregateRoot<Enrollment> {
 
     private EnrollmentStatus status;
 
+    /**
+     * Running total of the days elapsed on completed tutorials, or null until it is first calculated
+     */
+    private Long completedTutorialsDaysElapsed;
+
+    /**
+     * Start date of the tutorial in progress, or null if no tutorial is in progress
+     */
+    private Date tutorialInProgressStartedAt;
+
     public Enrollment() {
         // Required by JPA
     }
@@ -37,9 +49,17 @@ public class Enrollment extends AuditableAbstractAggregateRoot<Enrollment> {
         this.course = course;
         this.status = EnrollmentStatus.REQUESTED;
         this.progressRecord = new ProgressRecord();
+        this.completedTutorialsDaysElapsed = 0L;
     }
 
+    /**
+     * Confirm the enrollment
+     * @summary
+     * Confirming an enrollment that is already confirmed does nothing, so the progress record is initialized once
+     * and the command can be retried safely.
+     */
     public void confirm() {
+        if (isConfirmed()) return;
         this.status = EnrollmentStatus.CONFIRMED;
         this.progressRecord.initializeProgressRecord(this, course.getLearningPath());
         // this.registerEvent(new EnrollmentConfirmedEvent(this));
@@ -71,13 +91,57 @@ public class Enrollment extends AuditableAbstractAggregateRoot<Enrollment> {
         return this.status.name().toLowerCase();
     }
 
+    /**
+     * Calculate the days elapsed on the learning path
+     * @summary
+     * The days elapsed are kept as a running aggregate, updated when a tutorial is started or completed,
+     * so this method does not visit the progress record items.
+     * Enrollments whose aggregate is not seeded yet are calculated from their items, without seeding it,
+     * so read paths never change the enrollment.
+     * @return long with the days elapsed on completed tutorials plus the days elapsed on the tutorial in progress
+     */
     public long calculateDaysElapsed() {
-        return progressRecord.calculateDaysElapsedForEnrollment(this);
+        if (Objects.isNull(completedTutorialsDaysElapsed)) return progressRecord.calculateDaysElapsedForEnrollment(this);
+        if (Objects.isNull(tutorialInProgressStartedAt)) return completedTutorialsDaysElapsed;
+        return completedTutorialsDaysElapsed + ProgressRecordItem.calculateDaysElapsedUntilToday(tutorialInProgressStartedAt);
     }
 
+    public void startTutorial(TutorialId tutorialId) {
+        seedDaysElapsed();
+        var startedItem = this.progressRecord.startTutorial(tutorialId);
+        this.tutorialInProgressStartedAt = startedItem.getStatedAt();
+    }
+
+    /**
+     * Complete a tutorial of the learning path
+     * @summary
+     * Completing a tutorial that is already completed does nothing, so the next tutorial is added
+     * and the event is published once, and the command can be retried safely.
+     * @param tutorialId The id of the completed tutorial
+     */
     public void completeTutorial(TutorialId tutorialId) {
-        this.progressRecord.completeTutorial(tutorialId, course.getLearningPath());
+        if (this.progressRecord.isTutorialCompleted(tutorialId)) return;
+        seedDaysElapsed();
+        var completedItem = this.progressRecord.completeTutorial(tutorialId, course.getLearningPath());
+        this.completedTutorialsDaysElapsed += completedItem.calculateDaysElapsed();
+        this.tutorialInProgressStartedAt = null;
         // Publish a Tutorial Completed Event
-        this.registerEvent(new TutorialCompletedEvent(this, this.getId(), tutorialId));
+        this.registerEvent(new TutorialCompletedEvent(this, this.getId(), this.acmeStudentRecordId, tutorialId));
+    }
+
+    /**
+     * Seed the days elapsed aggregate from the progress record items
+     * @summary
+     * Enrollments created before the aggregate existed have no running total yet.
+     * It is calculated once from the progress record items and kept up to date afterward.
+     * Seeding an enrollment that already has its running total does nothing.
+     */
+    public void seedDaysElapsed() {
+        if (!Objects.isNull(completedTutorialsDaysElapsed)) return;
+        var startedAt = progressRecord.getStartDateOfTutorialInProgress();
+        var daysElapsed = progressRecord.calculateDaysElapsedForEnrollment(this);
+        if (!Objects.isNull(startedAt)) daysElapsed -= ProgressRecordItem.calculateDaysElapsedUntilToday(startedAt);
+        this.completedTutorialsDaysElapsed = daysElapsed;
+        this.tutorialInProgressStartedAt = startedAt;
     }
 }
@@ -7,6 +7,7 @@ import com.acme.center.platform.shared.domain.model.aggregates.AuditableAbstract
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 
 /**
@@ -34,6 +35,12 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
     @Embedded
     private StudentPerformanceMetricSet performanceMetricSet;
 
+    /**
+     * Completed tutorials not written to the performance metrics yet
+     */
+    @Transient
+    private int pendingCompletedTutorials;
+
     /**
      * Default constructor
      */
@@ -80,6 +87,17 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
         this.performanceMetricSet = this.performanceMetricSet.incrementTotalCompletedTutorials();
     }
 
+    /**
+     * Include pending completed tutorials.
+     * @summary
+     * This method sets the completed tutorials that are not written to the performance metrics yet,
+     * so they are included in the total completed tutorials. They are never persisted with the student.
+     * @param pendingCompletedTutorials the pending completed tutorials
+     */
+    public void includePendingCompletedTutorials(int pendingCompletedTutorials) {
+        this.pendingCompletedTutorials = pendingCompletedTutorials;
+    }
+
     /**
      * Get student record id
      * @return the student record id
@@ -106,9 +124,9 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
 
     /**
      * Get total completed tutorials
-     * @return the total completed tutorials by the student
+     * @return the total completed tutorials by the student, including the pending ones
      */
     public int getTotalCompletedTutorials() {
-        return this.performanceMetricSet.totalCompletedTutorials();
+        return this.performanceMetricSet.totalCompletedTutorials() + this.pendingCompletedTutorials;
     }
 }
@@ -0,0 +1,42 @@
+package com.acme.center.platform.learning.domain.model.commands;
+
+import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to append many tutorials to the end of a course learning path at once
+ * @param courseId the course id.
+ *                 Cannot be null or less than 1
+ * @param tutorialIds the tutorial ids, in the order they are appended.
+ *                    Cannot be null, empty or contain duplicates
+ * @see TutorialId
+ */
+public record AppendTutorialsToCourseLearningPathCommand(Long courseId, List<TutorialId> tutorialIds) {
+    /**
+     * Constructor
+     * @param courseId the course id.
+     *                 Cannot be null or less than 1
+     * @param tutorialIds the tutorial ids, in the order they are appended.
+     *                    Cannot be null, empty or contain duplicates
+     * @throws IllegalArgumentException if courseId is null or less than 1
+     * @throws IllegalArgumentException if tutorialIds is null or empty, if any tutorial id is null or less than 1, or if any tutorial id is repeated
+     */
+    public AppendTutorialsToCourseLearningPathCommand {
+        if (courseId == null || courseId <= 0) {
+            throw new IllegalArgumentException("courseId cannot be null or less than 1");
+        }
+        if (tutorialIds == null || tutorialIds.isEmpty()) {
+            throw new IllegalArgumentException("tutorialIds cannot be null or empty");
+        }
+        if (tutorialIds.stream().anyMatch(tutorialId -> Objects.isNull(tutorialId) || tutorialId.tutorialId() <= 0)) {
+            throw new IllegalArgumentException("tutorialIds cannot contain null or less than 1 tutorial ids");
+        }
+        if (new HashSet<>(tutorialIds).size() != tutorialIds.size()) {
+            throw new IllegalArgumentException("tutorialIds cannot contain duplicates");
+        }
+        tutorialIds = List.copyOf(tutorialIds);
+    }
+}
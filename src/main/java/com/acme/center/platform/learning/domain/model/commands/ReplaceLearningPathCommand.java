@@ -0,0 +1,42 @@
+package com.acme.center.platform.learning.domain.model.commands;
+
+import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to replace the whole learning path of a course with an ordered list of tutorials
+ * @param courseId the course id.
+ *                 Cannot be null or less than 1
+ * @param tutorialIds the tutorial ids of the new learning path, in path order.
+ *                    Cannot be null or contain duplicates. An empty list clears the learning path
+ * @see TutorialId
+ */
+public record ReplaceLearningPathCommand(Long courseId, List<TutorialId> tutorialIds) {
+    /**
+     * Constructor
+     * @param courseId the course id.
+     *                 Cannot be null or less than 1
+     * @param tutorialIds the tutorial ids of the new learning path, in path order.
+     *                    Cannot be null or contain duplicates
+     * @throws IllegalArgumentException if courseId is null or less than 1
+     * @throws IllegalArgumentException if tutorialIds is null, if any tutorial id is null or less than 1, or if any tutorial id is repeated
+     */
+    public ReplaceLearningPathCommand {
+        if (courseId == null || courseId <= 0) {
+            throw new IllegalArgumentException("courseId cannot be null or less than 1");
+        }
+        if (tutorialIds == null) {
+            throw new IllegalArgumentException("tutorialIds cannot be null");
+        }
+        if (tutorialIds.stream().anyMatch(tutorialId -> Objects.isNull(tutorialId) || tutorialId.tutorialId() <= 0)) {
+            throw new IllegalArgumentException("tutorialIds cannot contain null or less than 1 tutorial ids");
+        }
+        if (new HashSet<>(tutorialIds).size() != tutorialIds.size()) {
+            throw new IllegalArgumentException("tutorialIds cannot contain duplicates");
+        }
+        tutorialIds = List.copyOf(tutorialIds);
+    }
+}
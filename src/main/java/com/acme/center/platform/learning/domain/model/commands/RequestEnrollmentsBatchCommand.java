@@ -0,0 +1,27 @@
+package com.acme.center.platform.learning.domain.model.commands;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to request many enrollments at once
+ * @param requests the enrollment requests, each one for a student and a course.
+ *                 Cannot be null or empty
+ */
+public record RequestEnrollmentsBatchCommand(List<RequestEnrollmentCommand> requests) {
+    /**
+     * Constructor
+     * @param requests the enrollment requests, each one for a student and a course.
+     *                 Cannot be null or empty
+     * @throws IllegalArgumentException if requests is null or empty, or if any request is null
+     */
+    public RequestEnrollmentsBatchCommand {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("requests cannot be null or empty");
+        }
+        if (requests.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("requests cannot contain null requests");
+        }
+        requests = List.copyOf(requests);
+    }
+}
@@ -0,0 +1,8 @@
+package com.acme.center.platform.learning.domain.model.commands;
+
+/**
+ * Seed enrollments days elapsed command
+ * This class represents the command to seed the days elapsed aggregate of the enrollments created before it existed.
+ */
+public record SeedEnrollmentsDaysElapsedCommand() {
+}
@@ -0,0 +1,8 @@
+package com.acme.center.platform.learning.domain.model.commands;
+
+/**
+ * Seed learning path positions command
+ * This class represents the command to number the learning path items created before positions existed.
+ */
+public record SeedLearningPathPositionsCommand() {
+}
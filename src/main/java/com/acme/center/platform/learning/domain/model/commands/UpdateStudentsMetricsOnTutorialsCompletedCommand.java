@@ -0,0 +1,28 @@
+package com.acme.center.platform.learning.domain.model.commands;
+
+import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
+
+import java.util.Map;
+
+/**
+ * Command to update the metrics of many students on tutorials completed
+ * @param completedTutorialsByStudentRecordId the number of tutorials completed by each student, keyed by student record id.
+ *                                            Cannot be null or empty, and every count must be greater than 0
+ */
+public record UpdateStudentsMetricsOnTutorialsCompletedCommand(Map<AcmeStudentRecordId, Integer> completedTutorialsByStudentRecordId) {
+    /**
+     * Constructor
+     * @param completedTutorialsByStudentRecordId the number of tutorials completed by each student, keyed by student record id.
+     *                                            Cannot be null or empty, and every count must be greater than 0
+     * @throws IllegalArgumentException if completedTutorialsByStudentRecordId is null or empty, or if any count is null or less than 1
+     */
+    public UpdateStudentsMetricsOnTutorialsCompletedCommand {
+        if (completedTutorialsByStudentRecordId == null || completedTutorialsByStudentRecordId.isEmpty()) {
+            throw new IllegalArgumentException("completedTutorialsByStudentRecordId cannot be null or empty");
+        }
+        if (completedTutorialsByStudentRecordId.values().stream().anyMatch(count -> count == null || count < 1)) {
+            throw new IllegalArgumentException("completed tutorials count cannot be null or less than 1");
+        }
+        completedTutorialsByStudentRecordId = Map.copyOf(completedTutorialsByStudentRecordId);
+    }
+}
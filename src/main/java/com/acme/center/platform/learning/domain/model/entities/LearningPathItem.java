@@ -6,18 +6,24 @@ import com.acme.center.platform.shared.domain.model.entities.AuditableModel;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * LearningPathItem entity
  * @summary
  * This entity represents a learning path item.
  * A learning path item is a course with a tutorialId and a reference to the next item in the learning path.
+ * Its position orders the items of a course, so the learning path is loaded with a single ordered query.
  * @see Course
  * @see TutorialId
  * @since 1.0
  */
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning-path-items")
+@Table(indexes = @Index(name = "ix_learning_path_items_course_id_position", columnList = "course_id, position"))
 public class LearningPathItem extends AuditableModel {
     @ManyToOne
     @JoinColumn(name = "course_id")
@@ -29,14 +35,22 @@ public class LearningPathItem extends AuditableModel {
     @Column(name = "tutorial_id")
     private TutorialId tutorialId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "next_item_id")
     private LearningPathItem nextItem;
 
+    @Column(name = "position")
+    private Long position;
+
     public LearningPathItem(Course course, TutorialId tutorialId, LearningPathItem nextItem) {
+        this(course, tutorialId, nextItem, null);
+    }
+
+    public LearningPathItem(Course course, TutorialId tutorialId, LearningPathItem nextItem, Long position) {
         this.course = course;
         this.tutorialId = tutorialId;
         this.nextItem = nextItem;
+        this.position = position;
     }
 
     public LearningPathItem() {
@@ -51,4 +65,12 @@ public class LearningPathItem extends AuditableModel {
     public void updateNextItem(LearningPathItem nextItem) {
         this.nextItem = nextItem;
     }
+
+    /**
+     * Update the position of the item in the learning path
+     * @param position The position of the item in the learning path
+     */
+    public void updatePosition(Long position) {
+        this.position = position;
+    }
 }
@@ -10,6 +10,7 @@ import jakarta.persistence.ManyToOne;
 import lombok.Getter;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
@@ -70,11 +71,13 @@ public class ProgressRecordItem extends AuditableModel {
 
     /**
      * Updates the status of the progress to "Completed" and sets the completion date.
+     * If the progress was never started, the start date is set to the completion date.
      * @see ProgressStatus
      */
     public void complete() {
         this.status = ProgressStatus.COMPLETED;
         this.completedAt = new Date();
+        if (Objects.isNull(this.statedAt)) this.statedAt = this.completedAt;
     }
 
     /**
@@ -110,13 +113,30 @@ public class ProgressRecordItem extends AuditableModel {
      * @return The number of days elapsed since the progress was started, or 0 if there is no progress on the item.
      */
     public long calculateDaysElapsed() {
-        if(ProgressStatus.NOT_STARTED.equals(status)) return 0;
-        var defaultTimeZone = ZoneId.systemDefault();
-        var fromDate = this.statedAt.toInstant().atZone(defaultTimeZone);
-        var toDate = Objects.isNull(this.completedAt)
-                ? LocalDate.now().atStartOfDay(defaultTimeZone).toInstant()
-                : this.completedAt.toInstant();
-        return Duration.between(fromDate, toDate).toDays();
+        if(ProgressStatus.NOT_STARTED.equals(status) || Objects.isNull(this.statedAt)) return 0;
+        return Objects.isNull(this.completedAt)
+                ? calculateDaysElapsedUntilToday(this.statedAt)
+                : calculateDaysElapsedBetween(this.statedAt, this.completedAt.toInstant());
+    }
+
+    /**
+     * Calculates the number of days elapsed from the given start date until the start of the current day.
+     * @param startedAt The start date.
+     * @return The number of whole days elapsed.
+     */
+    public static long calculateDaysElapsedUntilToday(Date startedAt) {
+        var startOfToday = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant();
+        return calculateDaysElapsedBetween(startedAt, startOfToday);
+    }
+
+    /**
+     * Calculates the number of whole days elapsed between the given start date and end instant.
+     * @param startedAt The start date.
+     * @param endedAt The end instant.
+     * @return The number of whole days elapsed.
+     */
+    private static long calculateDaysElapsedBetween(Date startedAt, Instant endedAt) {
+        return Duration.between(startedAt.toInstant(), endedAt).toDays();
     }
 
 }
@@ -1,28 +1,59 @@
 package com.acme.center.platform.learning.domain.model.events;
 
+import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
+import com.acme.center.platform.shared.domain.model.events.DurableDomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 /**
  * TutorialCompletedEvent
  * Event that represents the completion of a tutorial
+ * It is durable, so it is stored in the outbox and handled once per enrollment and tutorial
+ * @see DurableDomainEvent
  */
 @Getter
-public class TutorialCompletedEvent extends ApplicationEvent {
+public class TutorialCompletedEvent extends ApplicationEvent implements DurableDomainEvent {
+    /**
+     * Event type of the TutorialCompletedEvent in the outbox
+     */
+    public static final String EVENT_TYPE = "learning.tutorial-completed";
+
     private final Long enrollmentId;
+    private final AcmeStudentRecordId acmeStudentRecordId;
     private final TutorialId tutorialId;
     /**
      * TutorialCompletedEvent Constructor
      * @param source The source of the event
      * @param enrollmentId The enrollment id
+     * @param acmeStudentRecordId The student record id of the enrollment
      * @param tutorialId The tutorial id
      * @see ApplicationEvent
+     * @see AcmeStudentRecordId
      * @see TutorialId
      */
-    public TutorialCompletedEvent(Object source, Long enrollmentId, TutorialId tutorialId) {
+    public TutorialCompletedEvent(Object source, Long enrollmentId, AcmeStudentRecordId acmeStudentRecordId, TutorialId tutorialId) {
         super(source);
         this.enrollmentId = enrollmentId;
+        this.acmeStudentRecordId = acmeStudentRecordId;
         this.tutorialId = tutorialId;
     }
+
+    // inherited javadoc
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+
+    // inherited javadoc
+    @Override
+    public String getIdempotencyKey() {
+        return EVENT_TYPE + ":" + enrollmentId + ":" + tutorialId.tutorialId();
+    }
+
+    // inherited javadoc
+    @Override
+    public TutorialCompletedEventPayload getPayload() {
+        return new TutorialCompletedEventPayload(enrollmentId, acmeStudentRecordId.studentRecordId(), tutorialId.tutorialId());
+    }
 }
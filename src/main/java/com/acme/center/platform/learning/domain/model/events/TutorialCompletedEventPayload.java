@@ -0,0 +1,11 @@
+package com.acme.center.platform.learning.domain.model.events;
+
+/**
+ * TutorialCompletedEventPayload
+ * Data of a TutorialCompletedEvent, as stored in the outbox
+ * @param enrollmentId The enrollment id
+ * @param studentRecordId The student record id of the enrollment
+ * @param tutorialId The tutorial id
+ */
+public record TutorialCompletedEventPayload(Long enrollmentId, String studentRecordId, Long tutorialId) {
+}
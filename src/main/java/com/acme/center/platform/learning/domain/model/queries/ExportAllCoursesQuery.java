@@ -0,0 +1,7 @@
+package com.acme.center.platform.learning.domain.model.queries;
+
+/**
+ * Query to export all courses, reading them one by one instead of as a list.
+ */
+public record ExportAllCoursesQuery() {
+}
@@ -0,0 +1,18 @@
+package com.acme.center.platform.learning.domain.model.queries;
+
+/**
+ * Query to get the catalog entry of a course by id.
+ * @param courseId Course id.
+ */
+public record GetCourseCatalogEntryByIdQuery(Long courseId) {
+    /**
+     * Constructor.
+     * @param courseId Course id.
+     *                 Must be greater than 0.
+     *                 Must not be null.
+     * @throws IllegalArgumentException If the course ID is invalid.
+     */
+    public GetCourseCatalogEntryByIdQuery {
+        if (courseId == null || courseId <= 0) throw new IllegalArgumentException("Course id is required.");
+    }
+}
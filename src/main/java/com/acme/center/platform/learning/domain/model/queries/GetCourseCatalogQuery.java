@@ -0,0 +1,7 @@
+package com.acme.center.platform.learning.domain.model.queries;
+
+/**
+ * Query to get the catalog entries of all courses.
+ */
+public record GetCourseCatalogQuery() {
+}
@@ -0,0 +1,18 @@
+package com.acme.center.platform.learning.domain.model.queries;
+
+/**
+ * Query to get the learning path of a course.
+ * @param courseId Course id.
+ */
+public record GetCourseLearningPathQuery(Long courseId) {
+    /**
+     * Constructor.
+     * @param courseId Course id.
+     *                 Must be greater than 0.
+     *                 Must not be null.
+     * @throws IllegalArgumentException If the course ID is invalid.
+     */
+    public GetCourseLearningPathQuery {
+        if (courseId == null || courseId <= 0) throw new IllegalArgumentException("Course id is required.");
+    }
+}
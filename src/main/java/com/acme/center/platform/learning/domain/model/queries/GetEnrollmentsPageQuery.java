@@ -0,0 +1,29 @@
+package com.acme.center.platform.learning.domain.model.queries;
+
+import com.acme.center.platform.learning.domain.model.valueobjects.EnrollmentStatus;
+
+/**
+ * Query to get a page of enrollments, ordered by id.
+ * @param afterId Id of the last enrollment of the previous page, or null to get the first page.
+ * @param size Maximum number of enrollments in the page, or null to use the default page size.
+ * @param status Enrollment status to filter by, or null to get enrollments in any status.
+ * @param courseId Course id to filter by, or null to get enrollments of any course.
+ */
+public record GetEnrollmentsPageQuery(Long afterId, Integer size, EnrollmentStatus status, Long courseId) {
+    /**
+     * Constructor.
+     * @param afterId Id of the last enrollment of the previous page.
+     *                Must not be negative.
+     * @param size Maximum number of enrollments in the page.
+     *             Must be greater than 0.
+     * @param status Enrollment status to filter by.
+     * @param courseId Course id to filter by.
+     *                 Must be greater than 0.
+     * @throws IllegalArgumentException If the cursor, the page size or the course ID is invalid.
+     */
+    public GetEnrollmentsPageQuery {
+        if (afterId != null && afterId < 0) throw new IllegalArgumentException("After id must not be negative.");
+        if (size != null && size <= 0) throw new IllegalArgumentException("Page size must be greater than 0.");
+        if (courseId != null && courseId <= 0) throw new IllegalArgumentException("Course id must be greater than 0.");
+    }
+}
@@ -0,0 +1,27 @@
+package com.acme.center.platform.learning.domain.model.readmodels;
+
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
+
+import java.util.Date;
+
+/**
+ * Course catalog entry
+ * @summary
+ * Immutable snapshot of the catalog information of a course, read without loading the Course aggregate.
+ * Being immutable, it can be cached and shared between requests.
+ * @param id The course id
+ * @param title The course title
+ * @param description The course description
+ * @param updatedAt The last time the course was saved
+ * @since 1.0
+ */
+public record CourseCatalogEntry(Long id, String title, String description, Date updatedAt) {
+
+    /**
+     * Get the version of the course this entry was read from
+     * @return The course version
+     */
+    public AggregateVersion version() {
+        return new AggregateVersion(id, updatedAt);
+    }
+}
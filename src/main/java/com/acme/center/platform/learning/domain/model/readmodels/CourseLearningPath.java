@@ -0,0 +1,58 @@
+package com.acme.center.platform.learning.domain.model.readmodels;
+
+import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
+import com.acme.center.platform.learning.domain.model.valueobjects.LearningPath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Course learning path
+ * @summary
+ * Immutable, flattened snapshot of the learning path of a course, with its entries in path order.
+ * The fingerprint is derived from the entries only, so every instance computes the same value for the same path
+ * and it can be used as an entity tag.
+ * @param courseId The course id
+ * @param entries The entries of the learning path, ordered by position
+ * @param fingerprint The hash of the entries
+ * @see LearningPathEntry
+ * @since 1.0
+ */
+public record CourseLearningPath(Long courseId, List<LearningPathEntry> entries, long fingerprint) {
+
+    /**
+     * Create a learning path snapshot from its ordered entries
+     * @param courseId The course id
+     * @param entries The entries of the learning path, ordered by position
+     * @return The learning path snapshot
+     */
+    public static CourseLearningPath of(Long courseId, List<LearningPathEntry> entries) {
+        long fingerprint = 1L;
+        for (var entry : entries) {
+            fingerprint = 31 * fingerprint + entry.tutorialId();
+            fingerprint = 31 * fingerprint + entry.position();
+        }
+        return new CourseLearningPath(courseId, List.copyOf(entries), fingerprint);
+    }
+
+    /**
+     * Create a learning path snapshot from the ordered items of a course
+     * @summary
+     * When an item has no position yet, every entry gets the position the path is numbered with once it is backfilled,
+     * so the fingerprint does not change when the positions are written.
+     * @param courseId The course id
+     * @param items The learning path items, in path order
+     * @return The learning path snapshot
+     */
+    public static CourseLearningPath fromItems(Long courseId, List<LearningPathItem> items) {
+        boolean numbered = items.stream().noneMatch(item -> Objects.isNull(item.getPosition()));
+        var entries = new ArrayList<LearningPathEntry>(items.size());
+        for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+            var item = items.get(ordinal);
+            long position = numbered ? item.getPosition() : (ordinal + 1) * LearningPath.POSITION_GAP;
+            entries.add(new LearningPathEntry(item.getTutorialId().tutorialId(), position));
+        }
+        return of(courseId, entries);
+    }
+}
@@ -0,0 +1,12 @@
+package com.acme.center.platform.learning.domain.model.readmodels;
+
+/**
+ * Learning path entry
+ * @summary
+ * Immutable snapshot of one item of a learning path: the tutorial and its position in the path.
+ * @param tutorialId The tutorial id
+ * @param position The position of the item, items are ordered by ascending position
+ * @since 1.0
+ */
+public record LearningPathEntry(Long tutorialId, Long position) {
+}
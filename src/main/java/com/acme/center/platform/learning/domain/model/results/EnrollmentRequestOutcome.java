@@ -0,0 +1,27 @@
+package com.acme.center.platform.learning.domain.model.results;
+
+/**
+ * Outcome of a single enrollment request within a batch.
+ */
+public enum EnrollmentRequestOutcome {
+    /**
+     * The enrollment was requested.
+     */
+    REQUESTED,
+    /**
+     * No student has the requested student record id.
+     */
+    STUDENT_NOT_FOUND,
+    /**
+     * No course has the requested course id.
+     */
+    COURSE_NOT_FOUND,
+    /**
+     * The student already has an enrollment in the course.
+     */
+    ALREADY_ENROLLED,
+    /**
+     * The same student and course were already requested earlier in the batch.
+     */
+    DUPLICATE_REQUEST
+}
@@ -0,0 +1,14 @@
+package com.acme.center.platform.learning.domain.model.results;
+
+import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
+
+/**
+ * Result of a single enrollment request within a batch.
+ * @param studentRecordId The student record id of the request.
+ * @param courseId The course id of the request.
+ * @param outcome The outcome of the request.
+ * @param enrollmentId The id of the requested enrollment, or null if the enrollment was not requested.
+ * @see EnrollmentRequestOutcome
+ */
+public record EnrollmentRequestResult(AcmeStudentRecordId studentRecordId, Long courseId, EnrollmentRequestOutcome outcome, Long enrollmentId) {
+}
@@ -0,0 +1,13 @@
+package com.acme.center.platform.learning.domain.model.results;
+
+import com.acme.center.platform.learning.domain.model.aggregates.Enrollment;
+
+import java.util.List;
+
+/**
+ * Page of enrollments, ordered by id.
+ * @param enrollments The enrollments in the page.
+ * @param nextAfterId The cursor to request the next page with, or null if this is the last page.
+ */
+public record EnrollmentsPage(List<Enrollment> enrollments, Long nextAfterId) {
+}
@@ -2,34 +2,62 @@ package com.acme.center.platform.learning.domain.model.valueobjects;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
 import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
-import jakarta.persistence.CascadeType;
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Predicate;
 
 /**
  * LearningPath value object
  *
  * @summary This value object represents a learning path.
- * A learning path is a list of learning path items.
+ * A learning path is a list of learning path items, ordered by their position.
+ * Positions are spaced by a fixed gap, so an item can be inserted between two others without renumbering the path.
+ * Each item also keeps a reference to the next item in the learning path.
+ * Lookups by tutorial id, the tail of the path and item positions are served from an in-memory index.
+ * The index is built lazily on first use after the items are loaded and kept in sync when items are appended.
+ * Items created before positions existed are indexed in next item reference order, without being numbered.
+ * They are only numbered by {@link #assignMissingPositions()}, which every change to the path calls first.
+ * The item ids of each course are kept in the second-level cache when the {@code l2cache} profile is active.
  * @see LearningPathItem
  * @since 1.0
  */
 @Embeddable
 public class LearningPath {
+    /**
+     * Distance between the positions of two consecutive items when the path is numbered
+     */
+    public static final long POSITION_GAP = 1024L;
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL)
+    @OrderBy("position ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course-learning-path-items")
     private List<LearningPathItem> learningPathItems;
 
+    @Transient
+    private Map<TutorialId, LearningPathItem> itemsByTutorialId;
+
+    @Transient
+    private Map<LearningPathItem, Integer> ordinalsByItem;
+
+    @Transient
+    private List<LearningPathItem> orderedItems;
+
+    @Transient
+    private int indexedItemCount;
+
+    @Transient
+    private boolean hasUnnumberedItems;
+
     /**
      * Default constructor
      * @summary
      * Initialize the learning path with an empty list of learning path items
      */
     public LearningPath() {
-        this.learningPathItems = List.of();
+        this.learningPathItems = new ArrayList<>();
     }
 
     /**
@@ -49,7 +77,20 @@ public class LearningPath {
      * @return The learning path item with the given tutorial id
      */
     public LearningPathItem getLearningPathItemWithTutorialId(TutorialId tutorialId) {
-        return this.getFirstLearningPathItemWhere(item -> item.getTutorialId().equals(tutorialId));
+        ensureIndexed();
+        return itemsByTutorialId.get(tutorialId);
+    }
+
+    /**
+     * Get the position of the given tutorial in the learning path
+     *
+     * @param tutorialId The tutorial id of the learning path item
+     * @return The zero-based position of the tutorial, or -1 if the tutorial is not in the learning path
+     */
+    public int getPositionOfTutorialInLearningPath(TutorialId tutorialId) {
+        var item = getLearningPathItemWithTutorialId(tutorialId);
+        if (Objects.isNull(item)) return -1;
+        return ordinalsByItem.getOrDefault(item, -1);
     }
 
     /**
@@ -59,8 +100,9 @@ public class LearningPath {
      * @return The id of the next tutorial in the learning path
      */
     public TutorialId getNextTutorialInLearningPath(TutorialId currentTutorialId) {
-        LearningPathItem nextItem = getLearningPathItemWithTutorialId(currentTutorialId).getNextItem();
-        return !Objects.isNull(nextItem) ? nextItem.getTutorialId() : null;
+        int currentPosition = getPositionOfTutorialInLearningPath(currentTutorialId);
+        if (currentPosition < 0 || currentPosition + 1 >= orderedItems.size()) return null;
+        return orderedItems.get(currentPosition + 1).getTutorialId();
     }
 
     /**
@@ -79,7 +121,8 @@ public class LearningPath {
      * @return The id of the first tutorial in the learning path
      */
     public TutorialId getFirstTutorialInLearningPath() {
-        return learningPathItems.getFirst().getTutorialId();
+        ensureIndexed();
+        return orderedItems.isEmpty() ? null : orderedItems.getFirst().getTutorialId();
     }
 
     /**
@@ -88,7 +131,18 @@ public class LearningPath {
      * @return The id of the last tutorial in the learning path
      */
     public LearningPathItem getLastItemInLearningPath() {
-        return this.getFirstLearningPathItemWhere(item -> Objects.isNull(item.getNextItem()));
+        ensureIndexed();
+        return orderedItems.isEmpty() ? null : orderedItems.getLast();
+    }
+
+    /**
+     * Get the items of the learning path, in path order
+     *
+     * @return An unmodifiable view of the learning path items, ordered by position
+     */
+    public List<LearningPathItem> getItemsInOrder() {
+        ensureIndexed();
+        return Collections.unmodifiableList(orderedItems);
     }
 
     /**
@@ -122,9 +176,23 @@ public class LearningPath {
      * @param nextItem   The next item in the learning path
      */
     public void addItem(Course course, TutorialId tutorialId, LearningPathItem nextItem) {
+        if (Objects.isNull(nextItem)) {
+            addItem(course, tutorialId);
+            return;
+        }
         // Add the new item to the learning path before the next item
-        LearningPathItem learningPathItem = new LearningPathItem(course, tutorialId, nextItem);
+        assignMissingPositions();
+        Integer nextOrdinal = ordinalsByItem.get(nextItem);
+        if (Objects.isNull(nextOrdinal))
+            throw new IllegalArgumentException("Next item is not part of the learning path");
+        if (!hasPositionGapBefore(nextOrdinal)) renumberPositions();
+        long previousPosition = nextOrdinal > 0 ? orderedItems.get(nextOrdinal - 1).getPosition() : 0L;
+        long position = previousPosition + (nextItem.getPosition() - previousPosition) / 2;
+        LearningPathItem learningPathItem = new LearningPathItem(course, tutorialId, nextItem, position);
         learningPathItems.add(learningPathItem);
+        if (nextOrdinal > 0) orderedItems.get(nextOrdinal - 1).updateNextItem(learningPathItem);
+        // Positions after the new item shift, so the index is rebuilt on next use
+        invalidateIndex();
     }
 
     /**
@@ -135,11 +203,77 @@ public class LearningPath {
      */
     public void addItem(Course course, TutorialId tutorialId) {
         // Add the new item to the end of the learning path
-        LearningPathItem learningPathItem = new LearningPathItem(course, tutorialId, null);
-        LearningPathItem originalLastItem = null;
-        if (!isEmpty()) originalLastItem = getLastItemInLearningPath();
+        assignMissingPositions();
+        LearningPathItem originalLastItem = getLastItemInLearningPath();
+        long position = Objects.isNull(originalLastItem) ? POSITION_GAP : originalLastItem.getPosition() + POSITION_GAP;
+        LearningPathItem learningPathItem = new LearningPathItem(course, tutorialId, null, position);
         learningPathItems.add(learningPathItem);
         if (!Objects.isNull(originalLastItem)) originalLastItem.updateNextItem(learningPathItem);
+        // Keep the index in sync with the appended item
+        itemsByTutorialId.put(tutorialId, learningPathItem);
+        ordinalsByItem.put(learningPathItem, orderedItems.size());
+        orderedItems.add(learningPathItem);
+        indexedItemCount = learningPathItems.size();
+    }
+
+    /**
+     * Create the items that append tutorials after the last item of a learning path, without loading the learning path
+     * @summary
+     * The new items are numbered after the last item, with a full gap between consecutive items, and linked to each other.
+     * The last item is linked to the first new item, so only the last item is changed among the existing ones.
+     *
+     * @param course      The course of the new items
+     * @param lastItem    The last item of the learning path, or null if the learning path is empty
+     * @param tutorialIds The tutorial ids of the new items, in path order
+     * @return The new items, in path order
+     */
+    public static List<LearningPathItem> createItemsAfter(Course course, LearningPathItem lastItem, List<TutorialId> tutorialIds) {
+        var items = new ArrayList<LearningPathItem>(tutorialIds.size());
+        var previousItem = lastItem;
+        long position = Objects.isNull(lastItem) ? 0L : lastItem.getPosition();
+        for (var tutorialId : tutorialIds) {
+            position += POSITION_GAP;
+            var item = new LearningPathItem(course, tutorialId, null, position);
+            if (!Objects.isNull(previousItem)) previousItem.updateNextItem(item);
+            items.add(item);
+            previousItem = item;
+        }
+        return items;
+    }
+
+    /**
+     * Replace the items of a learning path with the given tutorials, reusing the items of the tutorials already in it
+     * @summary
+     * Items of tutorials that stay in the path are reused, and only the tutorials that are not in the path get new items.
+     * The longest run of reused items whose positions are already in the new order keeps its positions.
+     * The other items are numbered between them, and the whole path is numbered again only when there is no room left
+     * or when an item has no position yet. Every item is linked to the next one in the new order.
+     * Items are only changed when their position or next item differ, so unchanged items are not written again.
+     *
+     * @param course       The course of the learning path
+     * @param currentItems The current items of the learning path, in any order
+     * @param tutorialIds  The tutorial ids of the new learning path, in path order, without duplicates
+     * @return The items of the new learning path, in path order. The current items missing from it must be removed
+     */
+    public static List<LearningPathItem> replaceItems(Course course, List<LearningPathItem> currentItems, List<TutorialId> tutorialIds) {
+        var currentItemsByTutorialId = new HashMap<TutorialId, LearningPathItem>();
+        boolean numbered = true;
+        for (var item : currentItems) {
+            currentItemsByTutorialId.putIfAbsent(item.getTutorialId(), item);
+            if (Objects.isNull(item.getPosition())) numbered = false;
+        }
+        var items = new ArrayList<LearningPathItem>(tutorialIds.size());
+        for (var tutorialId : tutorialIds) {
+            var item = currentItemsByTutorialId.get(tutorialId);
+            items.add(Objects.isNull(item) ? new LearningPathItem(course, tutorialId, null) : item);
+        }
+        if (!numbered || !positionItemsBetweenAnchors(items)) {
+            for (int ordinal = 0; ordinal < items.size(); ordinal++)
+                items.get(ordinal).updatePosition((ordinal + 1) * POSITION_GAP);
+        }
+        for (int ordinal = 0; ordinal < items.size(); ordinal++)
+            items.get(ordinal).updateNextItem(ordinal + 1 < items.size() ? items.get(ordinal + 1) : null);
+        return items;
     }
 
     /**
@@ -155,4 +289,167 @@ public class LearningPath {
         addItem(course, tutorialId, nextItem);
     }
 
+    /**
+     * Check if there is a free position right before the item at the given ordinal
+     *
+     * @param ordinal The zero-based position of the item in the learning path
+     * @return True if a new item fits between the item and its previous item, false otherwise
+     */
+    private boolean hasPositionGapBefore(int ordinal) {
+        long previousPosition = ordinal > 0 ? orderedItems.get(ordinal - 1).getPosition() : 0L;
+        return orderedItems.get(ordinal).getPosition() - previousPosition > 1;
+    }
+
+    /**
+     * Number the items that do not keep their position, between the positions of the items that keep theirs
+     * @summary
+     * Items that do not keep their position are spread evenly between the anchors around them,
+     * and numbered with a full gap after the last anchor.
+     *
+     * @param items The items of the learning path, in path order. New items have no position
+     * @return True if every item was numbered, false if there was no room between two anchors
+     */
+    private static boolean positionItemsBetweenAnchors(List<LearningPathItem> items) {
+        var anchored = findItemsKeepingTheirPosition(items);
+        long previousPosition = 0L;
+        int segmentStart = 0;
+        for (int ordinal = 0; ordinal <= items.size(); ordinal++) {
+            if (ordinal < items.size() && !anchored[ordinal]) continue;
+            int count = ordinal - segmentStart;
+            if (count > 0) {
+                long step = POSITION_GAP;
+                if (ordinal < items.size()) {
+                    long gap = items.get(ordinal).getPosition() - previousPosition;
+                    if (gap <= count) return false;
+                    step = gap / (count + 1);
+                }
+                for (int offset = 0; offset < count; offset++)
+                    items.get(segmentStart + offset).updatePosition(previousPosition + step * (offset + 1));
+            }
+            if (ordinal < items.size()) previousPosition = items.get(ordinal).getPosition();
+            segmentStart = ordinal + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Find the longest run of items, in path order, whose current positions are already increasing
+     * @summary
+     * The run is found in O(n log n) with the patience sorting method. New items have no position and are never part of it.
+     *
+     * @param items The items of the learning path, in path order
+     * @return For each item, true if it keeps its position
+     */
+    private static boolean[] findItemsKeepingTheirPosition(List<LearningPathItem> items) {
+        var runEnds = new ArrayList<Integer>();
+        var previousOrdinals = new int[items.size()];
+        for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+            var position = items.get(ordinal).getPosition();
+            if (Objects.isNull(position)) continue;
+            int low = 0;
+            int high = runEnds.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (items.get(runEnds.get(middle)).getPosition() < position) low = middle + 1;
+                else high = middle;
+            }
+            previousOrdinals[ordinal] = low > 0 ? runEnds.get(low - 1) : -1;
+            if (low == runEnds.size()) runEnds.add(ordinal);
+            else runEnds.set(low, ordinal);
+        }
+        var anchored = new boolean[items.size()];
+        for (int ordinal = runEnds.isEmpty() ? -1 : runEnds.getLast(); ordinal >= 0; ordinal = previousOrdinals[ordinal])
+            anchored[ordinal] = true;
+        return anchored;
+    }
+
+    /**
+     * Number the items again, keeping their order and leaving a full gap between consecutive items
+     */
+    private void renumberPositions() {
+        for (int ordinal = 0; ordinal < orderedItems.size(); ordinal++)
+            orderedItems.get(ordinal).updatePosition((ordinal + 1) * POSITION_GAP);
+        hasUnnumberedItems = false;
+    }
+
+    /**
+     * Number the items loaded without a position, in path order
+     * @summary
+     * Items created before positions existed only carry the next item reference, so they are indexed in that order.
+     * When any item has no position, the whole path is numbered in its indexed order, with a full gap between consecutive items.
+     * Reads never call it, so loading a path does not write to it.
+     * Whether an item has no position is recorded when the index is built, so a numbered path is checked in constant time.
+     *
+     * @return True if the items were numbered, false if every item already had a position
+     */
+    public boolean assignMissingPositions() {
+        ensureIndexed();
+        if (!hasUnnumberedItems) return false;
+        renumberPositions();
+        return true;
+    }
+
+    /**
+     * Order the items by their next item references
+     * @summary
+     * The path is walked from its head, the only item no other item points to.
+     * Items that cannot be reached from the head are placed after the reachable ones.
+     *
+     * @return The items, in path order
+     */
+    private List<LearningPathItem> orderByNextItemReferences() {
+        var referencedItems = Collections.newSetFromMap(new IdentityHashMap<LearningPathItem, Boolean>());
+        for (var item : learningPathItems)
+            if (!Objects.isNull(item.getNextItem())) referencedItems.add(item.getNextItem());
+        var walkedItems = Collections.newSetFromMap(new IdentityHashMap<LearningPathItem, Boolean>());
+        var orderedByReferences = new ArrayList<LearningPathItem>(learningPathItems.size());
+        var head = getFirstLearningPathItemWhere(item -> !referencedItems.contains(item));
+        for (var item = head; !Objects.isNull(item) && walkedItems.add(item); item = item.getNextItem())
+            orderedByReferences.add(item);
+        for (var item : learningPathItems)
+            if (walkedItems.add(item)) orderedByReferences.add(item);
+        return orderedByReferences;
+    }
+
+    /**
+     * Build the index if it was not built yet or if the items changed since it was built
+     * @summary
+     * Items are loaded ordered by position, so the index is built in a single pass
+     * and subsequent lookups and appends do not scan the items again.
+     * Paths with items that have no position are ordered by their next item references, and left unchanged.
+     */
+    private void ensureIndexed() {
+        if (!Objects.isNull(itemsByTutorialId) && indexedItemCount == learningPathItems.size()) return;
+        List<LearningPathItem> ordered;
+        boolean unnumbered = learningPathItems.stream().anyMatch(item -> Objects.isNull(item.getPosition()));
+        if (unnumbered) {
+            ordered = orderByNextItemReferences();
+        } else {
+            ordered = new ArrayList<>(learningPathItems);
+            ordered.sort(Comparator.comparing(LearningPathItem::getPosition));
+        }
+        var tutorialIndex = new HashMap<TutorialId, LearningPathItem>(ordered.size() * 2);
+        var ordinalIndex = new IdentityHashMap<LearningPathItem, Integer>(ordered.size());
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            var item = ordered.get(ordinal);
+            tutorialIndex.put(item.getTutorialId(), item);
+            ordinalIndex.put(item, ordinal);
+        }
+        this.itemsByTutorialId = tutorialIndex;
+        this.ordinalsByItem = ordinalIndex;
+        this.orderedItems = ordered;
+        this.indexedItemCount = learningPathItems.size();
+        this.hasUnnumberedItems = unnumbered;
+    }
+
+    /**
+     * Discard the index, so it is rebuilt on next use
+     */
+    private void invalidateIndex() {
+        this.itemsByTutorialId = null;
+        this.ordinalsByItem = null;
+        this.orderedItems = null;
+        this.indexedItemCount = 0;
+    }
+
 }
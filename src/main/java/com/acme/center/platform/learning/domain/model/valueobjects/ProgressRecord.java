@@ -5,8 +5,13 @@ import com.acme.center.platform.learning.domain.model.entities.ProgressRecordIte
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Transient;
+
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -14,6 +19,9 @@ import java.util.List;
  * It is embedded in the Enrollment aggregate.
  * It contains a list of ProgressRecordItems, each representing the progress of a student in a tutorial.
  * ProgressRecord provides methods to start a tutorial, calculate days elapsed for an enrollment, etc.
+ * Items are looked up by tutorial id through an in-memory index, and the item in progress is tracked directly,
+ * so starting and completing a tutorial does not scan the items.
+ * The index is built lazily on first use after the items are loaded.
  */
 @Embeddable
 public class ProgressRecord {
@@ -21,6 +29,15 @@ public class ProgressRecord {
     @OneToMany(mappedBy = "enrollment", cascade = CascadeType.ALL)
     private List<ProgressRecordItem> progressRecordItems;
 
+    @Transient
+    private Map<TutorialId, ProgressRecordItem> itemsByTutorialId;
+
+    @Transient
+    private ProgressRecordItem itemInProgress;
+
+    @Transient
+    private int indexedItemCount;
+
     /**
      * Default constructor
      */
@@ -39,7 +56,7 @@ public class ProgressRecord {
         if (learningPath.isEmpty()) return;
         TutorialId tutorialId = learningPath.getFirstTutorialInLearningPath();
         ProgressRecordItem progressRecordItem = new ProgressRecordItem(enrollment, tutorialId);
-        progressRecordItems.add(progressRecordItem);
+        addProgressRecordItem(progressRecordItem);
     }
 
     /**
@@ -50,10 +67,8 @@ public class ProgressRecord {
      * @see TutorialId
      */
     private ProgressRecordItem getProgressRecordItemWithTutorialId(TutorialId tutorialId) {
-        return progressRecordItems.stream()
-                .filter(progressRecordItem -> progressRecordItem.getTutorialId().equals(tutorialId))
-                .findFirst()
-                .orElse(null);
+        ensureIndexed();
+        return itemsByTutorialId.get(tutorialId);
     }
 
     /**
@@ -61,25 +76,31 @@ public class ProgressRecord {
      * @return boolean with true if there is a tutorial in progress, false otherwise
      */
     private boolean hasAnItemInProgress() {
-        return progressRecordItems.stream().anyMatch(ProgressRecordItem::isInProgress);
+        ensureIndexed();
+        return itemInProgress != null && itemInProgress.isInProgress();
     }
 
     /**
      * Start a tutorial with the given TutorialId
      * @param tutorialId TutorialId
+     * @return the started ProgressRecordItem
      * @throws IllegalStateException if a tutorial is already in progress
      * @throws IllegalStateException if the tutorial with the given ID is already started or completed
      * @throws IllegalArgumentException if the tutorial with the given ID is not found in the progress record
      * @see TutorialId
      * @see ProgressRecordItem
      */
-    public void startTutorial(TutorialId tutorialId) {
+    public ProgressRecordItem startTutorial(TutorialId tutorialId) {
 
         if (hasAnItemInProgress()) throw new IllegalStateException("A tutorial is already in progress");
 
         ProgressRecordItem progressRecordItem = getProgressRecordItemWithTutorialId(tutorialId);
         if (progressRecordItem != null) {
-            if (progressRecordItem.isNotStarted()) progressRecordItem.start();
+            if (progressRecordItem.isNotStarted()) {
+                progressRecordItem.start();
+                itemInProgress = progressRecordItem;
+                return progressRecordItem;
+            }
             else throw new IllegalStateException("Tutorial with given Id is already started or completed");
         }
         else throw new IllegalArgumentException("Tutorial with given Id not found in progress record");
@@ -89,24 +110,47 @@ public class ProgressRecord {
      * Complete a tutorial with the given TutorialId
      * @param tutorialId the TutorialId of the tutorial to be completed
      * @param learningPath the LearningPath object representing the learning path
+     * @return the completed ProgressRecordItem
      * @throws IllegalArgumentException if the tutorial with the given ID is not found in the progress record
      * @see TutorialId
      * @see LearningPath
      */
-    public void completeTutorial(TutorialId tutorialId, LearningPath learningPath) {
+    public ProgressRecordItem completeTutorial(TutorialId tutorialId, LearningPath learningPath) {
         ProgressRecordItem progressRecordItem = getProgressRecordItemWithTutorialId(tutorialId);
         if (progressRecordItem != null) progressRecordItem.complete();
         else throw new IllegalArgumentException("Tutorial with given Id not found in progress record");
-        if (learningPath.isLastTutorialInLearningPath(tutorialId)) return;
+        if (progressRecordItem == itemInProgress) itemInProgress = null;
         TutorialId nextTutorialId = learningPath.getNextTutorialInLearningPath(tutorialId);
         if (nextTutorialId != null) {
             ProgressRecordItem nextProgressRecordItem = new ProgressRecordItem(progressRecordItem.getEnrollment(), nextTutorialId);
-            progressRecordItems.add(nextProgressRecordItem);
+            addProgressRecordItem(nextProgressRecordItem);
         }
+        return progressRecordItem;
+    }
+
+    /**
+     * Check if a tutorial is completed
+     * @param tutorialId TutorialId
+     * @return boolean true if the progress record has a completed item for the tutorial, false otherwise
+     */
+    public boolean isTutorialCompleted(TutorialId tutorialId) {
+        ProgressRecordItem progressRecordItem = getProgressRecordItemWithTutorialId(tutorialId);
+        return progressRecordItem != null && progressRecordItem.isCompleted();
+    }
+
+    /**
+     * Get the start date of the tutorial in progress
+     * @return Date with the start date of the tutorial in progress, or null if no tutorial is in progress
+     */
+    public Date getStartDateOfTutorialInProgress() {
+        return hasAnItemInProgress() ? itemInProgress.getStatedAt() : null;
     }
 
     /**
      * Calculate the days elapsed for a given enrollment
+     * @summary
+     * This method visits every item of the progress record.
+     * It is used to seed the running days elapsed aggregate kept by the enrollment.
      * @param enrollment Enrollment
      * @return long with the days elapsed for the given enrollment
      * @see Enrollment
@@ -117,4 +161,31 @@ public class ProgressRecord {
                 .mapToLong(ProgressRecordItem::calculateDaysElapsed)
                 .sum();
     }
+
+    /**
+     * Add an item to the progress record, keeping the index in sync
+     * @param progressRecordItem ProgressRecordItem
+     */
+    private void addProgressRecordItem(ProgressRecordItem progressRecordItem) {
+        ensureIndexed();
+        progressRecordItems.add(progressRecordItem);
+        itemsByTutorialId.put(progressRecordItem.getTutorialId(), progressRecordItem);
+        indexedItemCount = progressRecordItems.size();
+    }
+
+    /**
+     * Build the index if it was not built yet or if the items changed since it was built
+     */
+    private void ensureIndexed() {
+        if (itemsByTutorialId != null && indexedItemCount == progressRecordItems.size()) return;
+        var tutorialIndex = new HashMap<TutorialId, ProgressRecordItem>(progressRecordItems.size() * 2);
+        ProgressRecordItem inProgress = null;
+        for (var progressRecordItem : progressRecordItems) {
+            tutorialIndex.putIfAbsent(progressRecordItem.getTutorialId(), progressRecordItem);
+            if (inProgress == null && progressRecordItem.isInProgress()) inProgress = progressRecordItem;
+        }
+        this.itemsByTutorialId = tutorialIndex;
+        this.itemInProgress = inProgress;
+        this.indexedItemCount = progressRecordItems.size();
+    }
 }
@@ -2,10 +2,15 @@ package com.acme.center.platform.learning.domain.services;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
 import com.acme.center.platform.learning.domain.model.commands.AddTutorialToCourseLearningPathCommand;
+import com.acme.center.platform.learning.domain.model.commands.AppendTutorialsToCourseLearningPathCommand;
 import com.acme.center.platform.learning.domain.model.commands.CreateCourseCommand;
 import com.acme.center.platform.learning.domain.model.commands.DeleteCourseCommand;
+import com.acme.center.platform.learning.domain.model.commands.ReplaceLearningPathCommand;
+import com.acme.center.platform.learning.domain.model.commands.SeedLearningPathPositionsCommand;
 import com.acme.center.platform.learning.domain.model.commands.UpdateCourseCommand;
+import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,7 +24,7 @@ public interface CourseCommandService {
      * @return The created course
      * @see CreateCourseCommand
      */
-    Long handle(CreateCourseCommand command);
+    Optional<Course> handle(CreateCourseCommand command);
     /**
      * Handle an update course command
      * @param command The update course command containing the course data
@@ -36,7 +41,32 @@ public interface CourseCommandService {
     /**
      * Handle an add tutorial to course learning path command
      * @param command The add tutorial to course learning path command containing the course id and tutorial id
+     * @return The learning path item appended for the tutorial
      * @see AddTutorialToCourseLearningPathCommand
      */
-    void handle(AddTutorialToCourseLearningPathCommand command);
+    Optional<LearningPathItem> handle(AddTutorialToCourseLearningPathCommand command);
+    /**
+     * Handle an append tutorials to course learning path command
+     * @param command The append tutorials to course learning path command containing the course id and tutorial ids
+     * @return The learning path items appended for the tutorials, in path order
+     * @throws IllegalArgumentException If the course does not exist, if the command has more tutorials than allowed,
+     *                                  or if any tutorial is already in the learning path
+     * @see AppendTutorialsToCourseLearningPathCommand
+     */
+    List<LearningPathItem> handle(AppendTutorialsToCourseLearningPathCommand command);
+    /**
+     * Handle a replace learning path command
+     * @param command The replace learning path command containing the course id and the tutorial ids of the new learning path
+     * @return The items of the new learning path, in path order
+     * @throws IllegalArgumentException If the course does not exist, or if the command has more tutorials than allowed
+     * @see ReplaceLearningPathCommand
+     */
+    List<LearningPathItem> handle(ReplaceLearningPathCommand command);
+    /**
+     * Handle a seed learning path positions command
+     * @param command The seed learning path positions command
+     * @return The number of courses whose learning path was numbered
+     * @see SeedLearningPathPositionsCommand
+     */
+    long handle(SeedLearningPathPositionsCommand command);
 }
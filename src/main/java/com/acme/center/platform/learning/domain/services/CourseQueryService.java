@@ -2,12 +2,19 @@ package com.acme.center.platform.learning.domain.services;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
 import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseLearningPath;
+import com.acme.center.platform.learning.domain.model.queries.ExportAllCoursesQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetAllCoursesQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetCourseByIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseCatalogEntryByIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseCatalogQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseLearningPathQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetLearningPathItemByCourseIdAndTutorialIdQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * CourseQueryService
@@ -28,6 +35,27 @@ public interface CourseQueryService {
      * @see GetAllCoursesQuery
      */
     List<Course> handle(GetAllCoursesQuery query);
+    /**
+     * Handle a get course catalog entry by id query
+     * @param query The get course catalog entry by id query containing the course id
+     * @return The catalog entry of the course
+     * @see GetCourseCatalogEntryByIdQuery
+     */
+    Optional<CourseCatalogEntry> handle(GetCourseCatalogEntryByIdQuery query);
+    /**
+     * Handle a get course catalog query
+     * @param query The get course catalog query
+     * @return The catalog entries of all courses, ordered by id
+     * @see GetCourseCatalogQuery
+     */
+    List<CourseCatalogEntry> handle(GetCourseCatalogQuery query);
+    /**
+     * Handle an export all courses query
+     * @param query The export all courses query
+     * @param consumer The consumer that receives each course, in id order, as it is read
+     * @see ExportAllCoursesQuery
+     */
+    void handle(ExportAllCoursesQuery query, Consumer<Course> consumer);
     /**
      * Handle a get learning path item by course id and tutorial id query
      * @param query The get learning path item by course id and tutorial id query containing the course id and tutorial id
@@ -35,4 +63,11 @@ public interface CourseQueryService {
      * @see GetLearningPathItemByCourseIdAndTutorialIdQuery
      */
     Optional<LearningPathItem> handle(GetLearningPathItemByCourseIdAndTutorialIdQuery query);
+    /**
+     * Handle a get course learning path query
+     * @param query The get course learning path query containing the course id
+     * @return The flattened learning path of the course, or an empty optional if the course does not exist
+     * @see GetCourseLearningPathQuery
+     */
+    Optional<CourseLearningPath> handle(GetCourseLearningPathQuery query);
 }
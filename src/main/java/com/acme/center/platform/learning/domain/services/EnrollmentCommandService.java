@@ -1,6 +1,11 @@
 package com.acme.center.platform.learning.domain.services;
 
+import com.acme.center.platform.learning.domain.model.aggregates.Enrollment;
 import com.acme.center.platform.learning.domain.model.commands.*;
+import com.acme.center.platform.learning.domain.model.results.EnrollmentRequestResult;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * EnrollmentCommandService
@@ -10,10 +15,18 @@ public interface EnrollmentCommandService {
     /**
      * Handle a request enrollment command
      * @param command The request enrollment command containing the enrollment data
-     * @return The requested enrollment id
+     * @return The requested enrollment
      * @see RequestEnrollmentCommand
      */
-    Long handle(RequestEnrollmentCommand command);
+    Optional<Enrollment> handle(RequestEnrollmentCommand command);
+    /**
+     * Handle a request enrollments batch command
+     * @param command The request enrollments batch command containing the student and course of each enrollment
+     * @return The result of each request, in the same order as the requests
+     * @throws IllegalArgumentException If the batch has more requests than allowed
+     * @see RequestEnrollmentsBatchCommand
+     */
+    List<EnrollmentRequestResult> handle(RequestEnrollmentsBatchCommand command);
     /**
      * Handle a confirm enrollment command
      * @param command The confirm enrollment command containing the enrollment id
@@ -42,4 +55,11 @@ public interface EnrollmentCommandService {
      * @see CompleteTutorialForEnrollmentCommand
      */
     Long handle(CompleteTutorialForEnrollmentCommand command);
+    /**
+     * Handle a seed enrollments days elapsed command
+     * @param command The seed enrollments days elapsed command
+     * @return The number of enrollments whose days elapsed aggregate was seeded
+     * @see SeedEnrollmentsDaysElapsedCommand
+     */
+    long handle(SeedEnrollmentsDaysElapsedCommand command);
 }
@@ -2,9 +2,11 @@ package com.acme.center.platform.learning.domain.services;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Enrollment;
 import com.acme.center.platform.learning.domain.model.queries.*;
+import com.acme.center.platform.learning.domain.model.results.EnrollmentsPage;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * EnrollmentQueryService
@@ -33,6 +35,20 @@ public interface EnrollmentQueryService {
      * @see GetAllEnrollmentsQuery
      */
     List<Enrollment> handle(GetAllEnrollmentsQuery query);
+    /**
+     * Handle a get enrollments page query
+     * @param query The get enrollments page query containing the cursor, the page size and the optional filters
+     * @return The page of enrollments with the cursor of the next page
+     * @see GetEnrollmentsPageQuery
+     */
+    EnrollmentsPage handle(GetEnrollmentsPageQuery query);
+    /**
+     * Handle an export all enrollments query
+     * @param query The export all enrollments query
+     * @param consumer The consumer that receives each enrollment, in id order, as it is read
+     * @see ExportAllEnrollmentsQuery
+     */
+    void handle(ExportAllEnrollmentsQuery query, Consumer<Enrollment> consumer);
     /**
      * Handle a get all enrollments by course id query
      * @param query The get all enrollments by course id query containing the course id
@@ -1,9 +1,13 @@
 package com.acme.center.platform.learning.domain.services;
 
+import com.acme.center.platform.learning.domain.model.aggregates.Student;
 import com.acme.center.platform.learning.domain.model.commands.CreateStudentCommand;
 import com.acme.center.platform.learning.domain.model.commands.UpdateStudentMetricsOnTutorialCompletedCommand;
+import com.acme.center.platform.learning.domain.model.commands.UpdateStudentsMetricsOnTutorialsCompletedCommand;
 import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 
+import java.util.Optional;
+
 /**
  * StudentCommandService
  * This interface defines the contract for the StudentCommandService.
@@ -13,9 +17,9 @@ public interface StudentCommandService {
      * handle
      * This method is used to handle the CreateStudentCommand.
      * @param command the CreateStudentCommand containing the student data.
-     * @return AcmeStudentRecordId generated for the student.
+     * @return Optional<Student> containing the created student, with the AcmeStudentRecordId generated for it.
      */
-    AcmeStudentRecordId handle(CreateStudentCommand command);
+    Optional<Student> handle(CreateStudentCommand command);
     /**
      * handle
      * This method is used to handle the UpdateStudentMetricsOnTutorialCompletedCommand.
@@ -23,4 +27,12 @@ public interface StudentCommandService {
      * @return AcmeStudentRecordId for the student whose metrics are updated.
      */
     AcmeStudentRecordId handle(UpdateStudentMetricsOnTutorialCompletedCommand command);
+    /**
+     * handle
+     * This method is used to handle the UpdateStudentsMetricsOnTutorialsCompletedCommand.
+     * Students that do not exist are skipped.
+     * @param command the UpdateStudentsMetricsOnTutorialsCompletedCommand containing the completed tutorials of each student.
+     * @return the number of students whose metrics are updated.
+     */
+    int handle(UpdateStudentsMetricsOnTutorialsCompletedCommand command);
 }
@@ -4,6 +4,8 @@ import com.acme.center.platform.learning.domain.model.aggregates.Student;
 import com.acme.center.platform.learning.domain.model.queries.ExistsByAcmeStudentRecordIdQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetStudentByAcmeStudentRecordIdQuery;
 import com.acme.center.platform.learning.domain.model.queries.GetStudentByProfileIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetStudentVersionByAcmeStudentRecordIdQuery;
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
 
 import java.util.Optional;
 
@@ -29,6 +31,15 @@ public interface StudentQueryService {
      */
     Optional<Student> handle(GetStudentByAcmeStudentRecordIdQuery query);
 
+    /**
+     * handle
+     * This method is used to handle the GetStudentVersionByAcmeStudentRecordIdQuery.
+     * @param query the GetStudentVersionByAcmeStudentRecordIdQuery containing the student record id.
+     * @return Optional<AggregateVersion> containing the version of the student for the given record id.
+     * @see GetStudentVersionByAcmeStudentRecordIdQuery
+     */
+    Optional<AggregateVersion> handle(GetStudentVersionByAcmeStudentRecordIdQuery query);
+
     /**
      * handle
      * This method is used to handle the ExistByAcmeStudentRecordIdQuery.
@@ -0,0 +1,104 @@
+package com.acme.center.platform.learning.infrastructure.caching;
+
+import com.acme.center.platform.learning.application.internal.outboundservices.catalog.CourseCatalogCacheService;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseLearningPath;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Course catalog cache.
+ * <p>
+ *     This class keeps the {@link CourseCatalogEntry} of each course, and a snapshot of the entries of all courses,
+ *     so the course catalog endpoints do not query the database on every call. Courses that do not exist are not cached.
+ *     It also keeps the flattened {@link CourseLearningPath} of each course, which is evicted whenever the learning path changes.
+ *     The cache is local to each application instance, so other instances keep serving their cached entries and paths
+ *     until their time to live expires.
+ *     Entries expire after a fixed time to live and are evicted by size.
+ *     Hit, miss and eviction counts are published as the {@code cache.*} metrics with the
+ *     {@code cache=course-catalog}, {@code cache=course-catalog-all} and {@code cache=course-learning-paths} tags.
+ * </p>
+ */
+@Component
+public class CourseCatalogCache implements CourseCatalogCacheService {
+
+    private static final String CACHE_NAME = "course-catalog";
+    private static final String ALL_ENTRIES_CACHE_NAME = "course-catalog-all";
+    private static final String LEARNING_PATHS_CACHE_NAME = "course-learning-paths";
+    private static final String ALL_ENTRIES_KEY = "all";
+
+    private final Cache<Long, CourseCatalogEntry> entries;
+    private final Cache<String, List<CourseCatalogEntry>> allEntries;
+    private final Cache<Long, CourseLearningPath> learningPaths;
+
+    public CourseCatalogCache(
+            MeterRegistry meterRegistry,
+            @Value("${learning.courses.catalog.cache.maximum-size}") long maximumSize,
+            @Value("${learning.courses.catalog.cache.ttl-minutes}") long ttlMinutes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.allEntries = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.learningPaths = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, allEntries, ALL_ENTRIES_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, learningPaths, LEARNING_PATHS_CACHE_NAME);
+    }
+
+    // inherit javadoc
+    @Override
+    public Optional<CourseCatalogEntry> get(Long courseId, Function<Long, Optional<CourseCatalogEntry>> loader) {
+        return Optional.ofNullable(entries.get(courseId, id -> loader.apply(id).orElse(null)));
+    }
+
+    // inherit javadoc
+    @Override
+    public List<CourseCatalogEntry> getAll(Supplier<List<CourseCatalogEntry>> loader) {
+        return allEntries.get(ALL_ENTRIES_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    // inherit javadoc
+    @Override
+    public void evict(Long courseId) {
+        entries.invalidate(courseId);
+        evictAll();
+    }
+
+    // inherit javadoc
+    @Override
+    public void evictAll() {
+        allEntries.invalidate(ALL_ENTRIES_KEY);
+    }
+
+    // inherit javadoc
+    @Override
+    public Optional<CourseLearningPath> getLearningPath(Long courseId, Function<Long, Optional<CourseLearningPath>> loader) {
+        return Optional.ofNullable(learningPaths.get(courseId, id -> loader.apply(id).orElse(null)));
+    }
+
+    // inherit javadoc
+    @Override
+    public void evictLearningPath(Long courseId) {
+        learningPaths.invalidate(courseId);
+    }
+}
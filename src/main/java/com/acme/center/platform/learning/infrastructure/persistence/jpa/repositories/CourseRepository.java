@@ -1,10 +1,21 @@
 package com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.StreamingQueryHints;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * CourseRepository
@@ -14,9 +25,13 @@ import java.util.Optional;
 public interface CourseRepository extends JpaRepository<Course, Long> {
     /**
      * This method is used to find a course by its title.
+     * The result is kept in the query cache when the {@code l2cache} profile is active.
      * @param title The title of the course.
      * @return An optional of the course.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "course-queries")})
     Optional<Course> findByTitle(String title);
     /**
      * This method is used to check if a course exists by its title.
@@ -31,5 +46,40 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @return A boolean indicating if the course exists with the same title but a different id.
      */
     boolean existsByTitleAndIdIsNot(String title, Long id);
+    /**
+     * This method is used to find a course by its id and lock its row until the end of the transaction.
+     * It serializes the changes to the learning path of a course without loading its items.
+     * It must be called inside a transaction.
+     * @param id The id of the course.
+     * @return An optional of the course.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Course c where c.id = :id")
+    Optional<Course> findByIdForUpdate(@Param("id") Long id);
+    /**
+     * This method is used to find the catalog entry of a course, without loading the course aggregate.
+     * @param id The id of the course.
+     * @return An optional of the catalog entry.
+     * @see CourseCatalogEntry
+     */
+    @Query("select new com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry(c.id, c.title, c.description, c.updatedAt) from Course c where c.id = :id")
+    Optional<CourseCatalogEntry> findCatalogEntryById(@Param("id") Long id);
+    /**
+     * This method is used to find the catalog entries of all courses, ordered by id, without loading the course aggregates.
+     * @return A list of the catalog entries.
+     * @see CourseCatalogEntry
+     */
+    @Query("select new com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry(c.id, c.title, c.description, c.updatedAt) from Course c order by c.id")
+    List<CourseCatalogEntry> findAllCatalogEntries();
+    /**
+     * This method is used to read all courses, ordered by id, through a forward-only streaming result set.
+     * The courses are streamed one row at a time and are not tracked for changes.
+     * It must be called inside a transaction, and the stream must be closed after use.
+     * @return A stream of all the courses.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.ROW_BY_ROW_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Course> streamAllByOrderByIdAsc();
 
 }
@@ -2,11 +2,21 @@ package com.acme.center.platform.learning.infrastructure.persistence.jpa.reposit
 
 import com.acme.center.platform.learning.domain.model.aggregates.Enrollment;
 import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
+import com.acme.center.platform.learning.domain.model.valueobjects.EnrollmentStatus;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.StreamingQueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * EnrollmentRepository
@@ -35,4 +45,64 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      * @see AcmeStudentRecordId
      */
     Optional<Enrollment> findByAcmeStudentRecordIdAndCourseId(AcmeStudentRecordId studentRecordId, Long courseId);
+    /**
+     * This method is used to find the enrollments of any of the given students in any of the given courses, in a single query.
+     * @param studentRecordIds The Acme student record ids.
+     * @param courseIds The course ids.
+     * @return A list of enrollments whose student and course are both among the given ones.
+     */
+    @Query("""
+            select e from Enrollment e
+            where e.acmeStudentRecordId.studentRecordId in :studentRecordIds
+            and e.course.id in :courseIds""")
+    List<Enrollment> findAllByStudentRecordIdsAndCourseIds(@Param("studentRecordIds") Collection<String> studentRecordIds, @Param("courseIds") Collection<Long> courseIds);
+    /**
+     * This method is used to find the ids of the enrollments without a days elapsed aggregate, with an id greater than the given cursor, ordered by id.
+     * @param afterId The id after which enrollments are read, 0 to read from the start.
+     * @param pageable The pageable limiting the number of ids read.
+     * @return A list of enrollment ids.
+     */
+    @Query("""
+            select e.id from Enrollment e
+            where e.completedTutorialsDaysElapsed is null
+            and e.id > :afterId
+            order by e.id asc""")
+    List<Long> findIdsWithoutDaysElapsedAfterId(@Param("afterId") Long afterId, Pageable pageable);
+    /**
+     * This method is used to find the enrollments with the given ids and their progress record items, in a single query.
+     * @param ids The enrollment ids.
+     * @return A list of enrollments with their progress record items loaded.
+     */
+    @Query("select distinct e from Enrollment e left join fetch e.progressRecord.progressRecordItems where e.id in :ids")
+    List<Enrollment> findAllWithProgressRecordItemsByIdIn(@Param("ids") Collection<Long> ids);
+    /**
+     * This method is used to find the enrollments with an id greater than the given cursor, ordered by id.
+     * It reads the enrollments and their courses in a single query and only the rows requested by the pageable.
+     * @param afterId The id of the last enrollment already read, or 0 to start from the first enrollment.
+     * @param status The enrollment status to filter by, or null to skip the filter.
+     * @param courseId The course id to filter by, or null to skip the filter.
+     * @param pageable The pageable that limits the number of enrollments.
+     * @return A list of enrollments ordered by id.
+     * @see EnrollmentStatus
+     */
+    @Query("""
+            select e from Enrollment e join fetch e.course c
+            where e.id > :afterId
+            and (:status is null or e.status = :status)
+            and (:courseId is null or c.id = :courseId)
+            order by e.id asc""")
+    List<Enrollment> findPageAfterId(@Param("afterId") Long afterId, @Param("status") EnrollmentStatus status, @Param("courseId") Long courseId, Pageable pageable);
+    /**
+     * This method is used to read all enrollments with their courses, ordered by id, through a forward-only streaming result set.
+     * The enrollments are streamed one row at a time and are not tracked for changes.
+     * Courses are fetched in the same query, and the days elapsed are read from the seeded running total,
+     * so exporting an enrollment does not load its course or its progress record items one by one.
+     * It must be called inside a transaction, and the stream must be closed after use.
+     * @return A stream of all the enrollments.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.ROW_BY_ROW_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select e from Enrollment e join fetch e.course order by e.id asc")
+    Stream<Enrollment> streamAllWithCourse();
 }
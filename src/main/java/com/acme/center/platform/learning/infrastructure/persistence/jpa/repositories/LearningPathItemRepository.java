@@ -0,0 +1,57 @@
+package com.acme.center.platform.learning.infrastructure.persistence.jpa.repositories;
+
+import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
+import com.acme.center.platform.learning.domain.model.readmodels.LearningPathEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * LearningPathItemRepository
+ * <p>This interface is used to interact with the database and perform query supporting operations on the LearningPathItem entity.</p>
+ */
+@Repository
+public interface LearningPathItemRepository extends JpaRepository<LearningPathItem, Long> {
+    /**
+     * This method is used to find the learning path entries of a course, ordered by position, without loading the learning path items.
+     * It is served by the course id and position index.
+     * @param courseId The id of the course.
+     * @return A list of the learning path entries.
+     * @see LearningPathEntry
+     */
+    @Query("select new com.acme.center.platform.learning.domain.model.readmodels.LearningPathEntry(i.tutorialId.tutorialId, i.position) from LearningPathItem i where i.course.id = :courseId order by i.position")
+    List<LearningPathEntry> findLearningPathEntriesByCourseId(@Param("courseId") Long courseId);
+    /**
+     * This method is used to find the last item of the learning path of a course, the only one without a next item.
+     * The items of the course are read from the highest position down, so the tail is usually the first row read.
+     * @param courseId The id of the course.
+     * @return An optional with the last item, or an empty optional if the learning path is empty.
+     */
+    Optional<LearningPathItem> findFirstByCourseIdAndNextItemIsNullOrderByPositionDesc(Long courseId);
+    /**
+     * This method is used to find the items of the learning path of a course, without loading the course aggregate.
+     * @param courseId The id of the course.
+     * @return A list with the items of the course, in no particular order.
+     */
+    List<LearningPathItem> findByCourseId(Long courseId);
+    /**
+     * This method is used to check if any of the given tutorials is already in the learning path of a course.
+     * It is served by a single query, without loading the learning path items.
+     * @param courseId The id of the course.
+     * @param tutorialIds The tutorial ids to look for.
+     * @return True if at least one of the tutorials is in the learning path, false otherwise.
+     */
+    @Query("select count(i) > 0 from LearningPathItem i where i.course.id = :courseId and i.tutorialId.tutorialId in :tutorialIds")
+    boolean existsByCourseIdAndTutorialIdIn(@Param("courseId") Long courseId, @Param("tutorialIds") Collection<Long> tutorialIds);
+    /**
+     * This method is used to find the ids of the courses with learning path items created before positions existed.
+     * @return A list with the ids of the courses, in ascending order.
+     */
+    @Query("select distinct i.course.id from LearningPathItem i where i.position is null order by i.course.id")
+    List<Long> findCourseIdsWithItemsWithoutPosition();
+}
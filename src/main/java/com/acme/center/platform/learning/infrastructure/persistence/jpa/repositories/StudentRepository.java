@@ -3,9 +3,16 @@ package com.acme.center.platform.learning.infrastructure.persistence.jpa.reposit
 import com.acme.center.platform.learning.domain.model.aggregates.Student;
 import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 import com.acme.center.platform.learning.domain.model.valueobjects.ProfileId;
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,6 +36,15 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     Optional<Student> findByProfileId(ProfileId profileId);
 
+    /**
+     * This method is used to find the version of a student by its Acme student record id, without loading the student.
+     * @param studentRecordId The Acme student record id.
+     * @return An optional with the version of the student if found, otherwise an empty optional.
+     * @see AggregateVersion
+     */
+    @Query("select new com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion(s.id, s.updatedAt) from Student s where s.acmeStudentRecordId.studentRecordId = :studentRecordId")
+    Optional<AggregateVersion> findVersionByAcmeStudentRecordId(@Param("studentRecordId") String studentRecordId);
+
     /**
      * This method is used to check if a student exists by its Acme student record id.
      * @param studentRecordId The Acme student record id.
@@ -36,4 +52,32 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @see AcmeStudentRecordId
      */
     boolean existsByAcmeStudentRecordId(AcmeStudentRecordId studentRecordId);
+
+    /**
+     * This method is used to find which of the given Acme student record ids belong to a student, in a single query.
+     * @param studentRecordIds The Acme student record ids to look for.
+     * @return A list with the Acme student record ids that belong to a student.
+     */
+    @Query("select s.acmeStudentRecordId.studentRecordId from Student s where s.acmeStudentRecordId.studentRecordId in :studentRecordIds")
+    List<String> findExistingAcmeStudentRecordIds(@Param("studentRecordIds") Collection<String> studentRecordIds);
+
+    /**
+     * This method is used to add completed tutorials to the performance metrics of students, in a single atomic update.
+     * The increment is applied by the database, so concurrent increments of the same student are never lost.
+     * It bypasses the persistence context, so students already loaded in it are not refreshed.
+     * It increments the version of the students, so a student loaded before the update cannot be saved over it.
+     * It must be called inside a transaction.
+     * @param studentRecordIds The Acme student record ids of the students to update.
+     * @param completedTutorials The number of completed tutorials to add to each student.
+     * @param updatedAt The date to set as last modification date of the students.
+     * @return The number of students updated.
+     */
+    @Modifying
+    @Query("""
+            update Student s
+            set s.performanceMetricSet.totalCompletedTutorials = s.performanceMetricSet.totalCompletedTutorials + :completedTutorials,
+            s.updatedAt = :updatedAt,
+            s.version = s.version + 1
+            where s.acmeStudentRecordId.studentRecordId in :studentRecordIds""")
+    int incrementTotalCompletedTutorials(@Param("studentRecordIds") Collection<String> studentRecordIds, @Param("completedTutorials") int completedTutorials, @Param("updatedAt") Date updatedAt);
 }
@@ -1,22 +1,35 @@
 package com.acme.center.platform.learning.interfaces.rest;
 
 import com.acme.center.platform.learning.domain.model.commands.AddTutorialToCourseLearningPathCommand;
-import com.acme.center.platform.learning.domain.model.queries.GetLearningPathItemByCourseIdAndTutorialIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseLearningPathQuery;
 import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
 import com.acme.center.platform.learning.domain.services.CourseCommandService;
 import com.acme.center.platform.learning.domain.services.CourseQueryService;
+import com.acme.center.platform.learning.interfaces.rest.resources.AppendTutorialsToCourseLearningPathResource;
+import com.acme.center.platform.learning.interfaces.rest.resources.CourseLearningPathResource;
 import com.acme.center.platform.learning.interfaces.rest.resources.LearningPathItemResource;
+import com.acme.center.platform.learning.interfaces.rest.resources.ReplaceLearningPathResource;
+import com.acme.center.platform.learning.interfaces.rest.transform.AppendTutorialsToCourseLearningPathCommandFromResourceAssembler;
+import com.acme.center.platform.learning.interfaces.rest.transform.CourseLearningPathResourceFromEntityAssembler;
 import com.acme.center.platform.learning.interfaces.rest.transform.LearningPathItemResourceFromEntityAssembler;
+import com.acme.center.platform.learning.interfaces.rest.transform.ReplaceLearningPathCommandFromResourceAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -41,6 +54,33 @@ public class CourseLearningPathController {
         this.courseQueryService = courseQueryService;
     }
 
+    /**
+     * Get the learning path of a course.
+     * <p>
+     *     The learning path is served from its flattened projection, with an entity tag written by the conditional request check.
+     *     Requests whose {@code If-None-Match} header matches the current entity tag get a {@code 304 Not Modified} without a body.
+     * </p>
+     *
+     * @param courseId   the course identifier
+     * @param webRequest the current request, used to evaluate its conditional headers
+     * @return the course learning path resource
+     */
+    @GetMapping
+    @Operation(summary = "Get the learning path of a course")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Learning path of the course found"),
+            @ApiResponse(responseCode = "304", description = "Learning path of the course not modified"),
+            @ApiResponse(responseCode = "404", description = "Course not found")
+    })
+    public ResponseEntity<CourseLearningPathResource> getCourseLearningPath(@PathVariable Long courseId, WebRequest webRequest) {
+        var learningPath = courseQueryService.handle(new GetCourseLearningPathQuery(courseId));
+        if (learningPath.isEmpty()) return ResponseEntity.notFound().build();
+        var entityTag = CourseLearningPathResourceFromEntityAssembler.toEntityTagFromEntity(learningPath.get());
+        if (webRequest.checkNotModified(entityTag)) return null;
+        var learningPathResource = CourseLearningPathResourceFromEntityAssembler.toResourceFromEntity(learningPath.get());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(learningPathResource);
+    }
+
     /**
      * Add a tutorial to the learning path of a course.
      *
@@ -55,12 +95,70 @@ public class CourseLearningPathController {
             @ApiResponse(responseCode = "404", description = "Course or tutorial not found")
     })
     public ResponseEntity<LearningPathItemResource> addTutorialToCourseLearningPath(@PathVariable Long courseId, @PathVariable Long tutorialId) {
-        courseCommandService.handle(new AddTutorialToCourseLearningPathCommand(new TutorialId(tutorialId), courseId));
-        var getLearningPathItemByCourseIdAndTutorialIdQuery = new GetLearningPathItemByCourseIdAndTutorialIdQuery(courseId, new TutorialId(tutorialId));
-        var learningPathItem = courseQueryService.handle(getLearningPathItemByCourseIdAndTutorialIdQuery);
+        var learningPathItem = courseCommandService.handle(new AddTutorialToCourseLearningPathCommand(new TutorialId(tutorialId), courseId));
         if (learningPathItem.isEmpty()) return ResponseEntity.notFound().build();
-        var learningPathItemEntity = learningPathItem.get();
-        var learningPathItemResource = LearningPathItemResourceFromEntityAssembler.toResourceFromEntity(learningPathItemEntity);
+        var learningPathItemResource = LearningPathItemResourceFromEntityAssembler.toResourceFromEntity(learningPathItem.get());
         return new ResponseEntity<>(learningPathItemResource, HttpStatus.CREATED);
     }
+
+    /**
+     * Append many tutorials to the learning path of a course.
+     * <p>
+     *     The tutorials are appended in the order they are listed, in a single transaction.
+     * </p>
+     *
+     * @param courseId the course identifier
+     * @param resource the {@link AppendTutorialsToCourseLearningPathResource} resource with the tutorial identifiers
+     * @return the learning path item resources, in path order
+     */
+    @PostMapping
+    @Operation(summary = "Append tutorials to the learning path of a course")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tutorials appended to the learning path of the course"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    public ResponseEntity<List<LearningPathItemResource>> appendTutorialsToCourseLearningPath(
+            @PathVariable Long courseId, @RequestBody AppendTutorialsToCourseLearningPathResource resource) {
+        List<LearningPathItemResource> learningPathItemResources;
+        try {
+            var appendTutorialsCommand = AppendTutorialsToCourseLearningPathCommandFromResourceAssembler.toCommandFromResource(courseId, resource);
+            learningPathItemResources = courseCommandService.handle(appendTutorialsCommand).stream()
+                    .map(LearningPathItemResourceFromEntityAssembler::toResourceFromEntity)
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return new ResponseEntity<>(learningPathItemResources, HttpStatus.CREATED);
+    }
+
+    /**
+     * Replace the learning path of a course.
+     * <p>
+     *     The new learning path is diffed against the current one, and only the items that change are written, in a single transaction.
+     *     An empty list of tutorial identifiers clears the learning path.
+     * </p>
+     *
+     * @param courseId the course identifier
+     * @param resource the {@link ReplaceLearningPathResource} resource with the tutorial identifiers of the new learning path
+     * @return the learning path item resources, in path order
+     */
+    @PutMapping
+    @Operation(summary = "Replace the learning path of a course")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Learning path of the course replaced"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    public ResponseEntity<List<LearningPathItemResource>> replaceCourseLearningPath(
+            @PathVariable Long courseId, @RequestBody ReplaceLearningPathResource resource) {
+        List<LearningPathItemResource> learningPathItemResources;
+        try {
+            var replaceLearningPathCommand = ReplaceLearningPathCommandFromResourceAssembler.toCommandFromResource(courseId, resource);
+            learningPathItemResources = courseCommandService.handle(replaceLearningPathCommand).stream()
+                    .map(LearningPathItemResourceFromEntityAssembler::toResourceFromEntity)
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(learningPathItemResources);
+    }
 }
@@ -1,8 +1,9 @@
 package com.acme.center.platform.learning.interfaces.rest;
 
 import com.acme.center.platform.learning.domain.model.commands.DeleteCourseCommand;
-import com.acme.center.platform.learning.domain.model.queries.GetAllCoursesQuery;
-import com.acme.center.platform.learning.domain.model.queries.GetCourseByIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.ExportAllCoursesQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseCatalogEntryByIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetCourseCatalogQuery;
 import com.acme.center.platform.learning.domain.services.CourseCommandService;
 import com.acme.center.platform.learning.domain.services.CourseQueryService;
 import com.acme.center.platform.learning.interfaces.rest.resources.CourseResource;
@@ -11,17 +12,24 @@ import com.acme.center.platform.learning.interfaces.rest.resources.UpdateCourseR
 import com.acme.center.platform.learning.interfaces.rest.transform.CourseResourceFromEntityAssembler;
 import com.acme.center.platform.learning.interfaces.rest.transform.CreateCourseCommandFromResourceAssembler;
 import com.acme.center.platform.learning.interfaces.rest.transform.UpdateCourseCommandFromResourceAssembler;
+import com.acme.center.platform.shared.interfaces.rest.conditional.ConditionalRequests;
+import com.acme.center.platform.shared.interfaces.rest.streaming.NdjsonResponseStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 /**
  * CoursesController
@@ -35,17 +43,21 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class CoursesController {
     private final CourseCommandService courseCommandService;
     private final CourseQueryService courseQueryService;
+    private final NdjsonResponseStreamer ndjsonResponseStreamer;
 
 
     /**
      * Constructor
      *
-     * @param courseCommandService The {@link CourseCommandService} instance
-     * @param courseQueryService   The {@link CourseQueryService} instance
+     * @param courseCommandService   The {@link CourseCommandService} instance
+     * @param courseQueryService     The {@link CourseQueryService} instance
+     * @param ndjsonResponseStreamer The {@link NdjsonResponseStreamer} instance
      */
-    public CoursesController(CourseCommandService courseCommandService, CourseQueryService courseQueryService) {
+    public CoursesController(CourseCommandService courseCommandService, CourseQueryService courseQueryService,
+                             NdjsonResponseStreamer ndjsonResponseStreamer) {
         this.courseCommandService = courseCommandService;
         this.courseQueryService = courseQueryService;
+        this.ndjsonResponseStreamer = ndjsonResponseStreamer;
     }
 
     /**
@@ -62,11 +74,8 @@ public class CoursesController {
             @ApiResponse(responseCode = "404", description = "Course not found")})
     public ResponseEntity<CourseResource> createCourse(@RequestBody CreateCourseResource resource) {
         var createCourseCommand = CreateCourseCommandFromResourceAssembler.toCommandFromResource(resource);
-        var courseId = courseCommandService.handle(createCourseCommand);
-        if (courseId == null || courseId == 0L) return ResponseEntity.badRequest().build();
-        var getCourseByIdQuery = new GetCourseByIdQuery(courseId);
-        var course = courseQueryService.handle(getCourseByIdQuery);
-        if (course.isEmpty()) return ResponseEntity.notFound().build();
+        var course = courseCommandService.handle(createCourseCommand);
+        if (course.isEmpty()) return ResponseEntity.badRequest().build();
         var courseEntity = course.get();
         var courseResource = CourseResourceFromEntityAssembler.toResourceFromEntity(courseEntity);
         return new ResponseEntity<>(courseResource, HttpStatus.CREATED);
@@ -74,22 +83,25 @@ public class CoursesController {
 
     /**
      * Get course by id
+     * <p>Requests whose conditional headers match the current version of the course get a {@code 304 Not Modified} without a body.</p>
      *
      * @param courseId The course id
+     * @param webRequest The current request, used to evaluate its conditional headers
      * @return The {@link CourseResource} resource for the course
      */
     @GetMapping("/{courseId}")
     @Operation(summary = "Get course by id", description = "Get course by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Course found"),
+            @ApiResponse(responseCode = "304", description = "Course not modified"),
             @ApiResponse(responseCode = "404", description = "Course not found")})
-    public ResponseEntity<CourseResource> getCourseById(@PathVariable Long courseId) {
-        var getCourseByIdQuery = new GetCourseByIdQuery(courseId);
-        var course = courseQueryService.handle(getCourseByIdQuery);
+    public ResponseEntity<CourseResource> getCourseById(@PathVariable Long courseId, WebRequest webRequest) {
+        var getCourseCatalogEntryByIdQuery = new GetCourseCatalogEntryByIdQuery(courseId);
+        var course = courseQueryService.handle(getCourseCatalogEntryByIdQuery);
         if (course.isEmpty()) return ResponseEntity.notFound().build();
-        var courseEntity = course.get();
-        var courseResource = CourseResourceFromEntityAssembler.toResourceFromEntity(courseEntity);
-        return ResponseEntity.ok(courseResource);
+        if (ConditionalRequests.checkNotModified(webRequest, course.get().version())) return null;
+        var courseResource = CourseResourceFromEntityAssembler.toResourceFromEntity(course.get());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(courseResource);
     }
 
     /**
@@ -103,7 +115,7 @@ public class CoursesController {
             @ApiResponse(responseCode = "200", description = "Courses found"),
             @ApiResponse(responseCode = "404", description = "Courses not found")})
     public ResponseEntity<List<CourseResource>> getAllCourses() {
-        var courses = courseQueryService.handle(new GetAllCoursesQuery());
+        var courses = courseQueryService.handle(new GetCourseCatalogQuery());
         if (courses.isEmpty()) return ResponseEntity.notFound().build();
         var courseResources = courses.stream()
                 .map(CourseResourceFromEntityAssembler::toResourceFromEntity)
@@ -111,6 +123,23 @@ public class CoursesController {
         return ResponseEntity.ok(courseResources);
     }
 
+    /**
+     * Export all courses
+     *
+     * @param response The HTTP response the {@link CourseResource} resources are written to, one per line
+     * @throws IOException If the response cannot be written
+     */
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all courses", description = "Stream all courses as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses exported")})
+    public void exportAllCourses(HttpServletResponse response) throws IOException {
+        try (var sequence = ndjsonResponseStreamer.open(response)) {
+            courseQueryService.handle(new ExportAllCoursesQuery(),
+                    course -> sequence.write(CourseResourceFromEntityAssembler.toResourceFromEntity(course)));
+        }
+    }
+
     /**
      * Update course
      *
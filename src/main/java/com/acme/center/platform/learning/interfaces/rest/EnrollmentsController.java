@@ -3,25 +3,36 @@ package com.acme.center.platform.learning.interfaces.rest;
 import com.acme.center.platform.learning.domain.model.commands.CancelEnrollmentCommand;
 import com.acme.center.platform.learning.domain.model.commands.ConfirmEnrollmentCommand;
 import com.acme.center.platform.learning.domain.model.commands.RejectEnrollmentCommand;
-import com.acme.center.platform.learning.domain.model.queries.GetAllEnrollmentsQuery;
-import com.acme.center.platform.learning.domain.model.queries.GetEnrollmentByAcmeStudentRecordIdAndCourseIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.ExportAllEnrollmentsQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetEnrollmentsPageQuery;
+import com.acme.center.platform.learning.domain.model.valueobjects.EnrollmentStatus;
 import com.acme.center.platform.learning.domain.services.EnrollmentCommandService;
 import com.acme.center.platform.learning.domain.services.EnrollmentQueryService;
+import com.acme.center.platform.learning.interfaces.rest.resources.EnrollmentRequestResultResource;
 import com.acme.center.platform.learning.interfaces.rest.resources.EnrollmentResource;
+import com.acme.center.platform.learning.interfaces.rest.resources.EnrollmentsPageResource;
 import com.acme.center.platform.learning.interfaces.rest.resources.RequestEnrollmentResource;
+import com.acme.center.platform.learning.interfaces.rest.resources.RequestEnrollmentsBatchResource;
+import com.acme.center.platform.learning.interfaces.rest.transform.EnrollmentRequestResultResourceFromEntityAssembler;
 import com.acme.center.platform.learning.interfaces.rest.transform.EnrollmentResourceFromEntityAssembler;
+import com.acme.center.platform.learning.interfaces.rest.transform.EnrollmentsPageResourceFromEntityAssembler;
 import com.acme.center.platform.learning.interfaces.rest.transform.RequestEnrollmentCommandFromResourceAssembler;
+import com.acme.center.platform.learning.interfaces.rest.transform.RequestEnrollmentsBatchCommandFromResourceAssembler;
 import com.acme.center.platform.shared.interfaces.rest.resources.MessageResource;
+import com.acme.center.platform.shared.interfaces.rest.streaming.NdjsonResponseStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 /**
  * Enrollments Controller
@@ -32,16 +43,20 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class EnrollmentsController {
     private final EnrollmentCommandService enrollmentCommandService;
     private final EnrollmentQueryService enrollmentQueryService;
+    private final NdjsonResponseStreamer ndjsonResponseStreamer;
 
     /**
      * Constructor
      *
      * @param enrollmentCommandService Enrollment Command Service
      * @param enrollmentQueryService   Enrollment Query Service
+     * @param ndjsonResponseStreamer   NDJSON Response Streamer
      */
-    public EnrollmentsController(EnrollmentCommandService enrollmentCommandService, EnrollmentQueryService enrollmentQueryService) {
+    public EnrollmentsController(EnrollmentCommandService enrollmentCommandService, EnrollmentQueryService enrollmentQueryService,
+                                 NdjsonResponseStreamer ndjsonResponseStreamer) {
         this.enrollmentCommandService = enrollmentCommandService;
         this.enrollmentQueryService = enrollmentQueryService;
+        this.ndjsonResponseStreamer = ndjsonResponseStreamer;
     }
 
     /**
@@ -58,17 +73,37 @@ public class EnrollmentsController {
             @ApiResponse(responseCode = "404", description = "Enrollment not found")})
     public ResponseEntity<EnrollmentResource> requestEnrollment(@RequestBody RequestEnrollmentResource resource) {
         var requestEnrollmentCommand = RequestEnrollmentCommandFromResourceAssembler.toCommandFromResource(resource);
-        var enrollmentId = enrollmentCommandService.handle(requestEnrollmentCommand);
-        if (enrollmentId == null || enrollmentId.equals(0L)) return ResponseEntity.badRequest().build();
-        var getEnrollmentByAcmeStudentRecordIdAndCourseIdQuery = new GetEnrollmentByAcmeStudentRecordIdAndCourseIdQuery(
-                requestEnrollmentCommand.studentRecordId(), requestEnrollmentCommand.courseId());
-        var enrollment = enrollmentQueryService.handle(getEnrollmentByAcmeStudentRecordIdAndCourseIdQuery);
-        if (enrollment.isEmpty()) return ResponseEntity.notFound().build();
+        var enrollment = enrollmentCommandService.handle(requestEnrollmentCommand);
+        if (enrollment.isEmpty()) return ResponseEntity.badRequest().build();
         var requestedEnrollment = enrollment.get();
         var enrollmentResource = EnrollmentResourceFromEntityAssembler.toResourceFromEntity(requestedEnrollment);
         return ResponseEntity.ok(enrollmentResource);
     }
 
+    /**
+     * Request Enrollments Batch
+     *
+     * @param resource The {@link RequestEnrollmentsBatchResource} object containing the student and course of each enrollment
+     * @return The {@link EnrollmentRequestResultResource} Resources with the outcome of each request, in the same order as the requests
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Request Enrollments Batch", description = "Request many enrollments, each one for a student in a course")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Enrollment requests processed"),
+            @ApiResponse(responseCode = "400", description = "Bad request")})
+    public ResponseEntity<List<EnrollmentRequestResultResource>> requestEnrollmentsBatch(@RequestBody RequestEnrollmentsBatchResource resource) {
+        List<EnrollmentRequestResultResource> resultResources;
+        try {
+            var requestEnrollmentsBatchCommand = RequestEnrollmentsBatchCommandFromResourceAssembler.toCommandFromResource(resource);
+            resultResources = enrollmentCommandService.handle(requestEnrollmentsBatchCommand).stream()
+                    .map(EnrollmentRequestResultResourceFromEntityAssembler::toResourceFromEntity)
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(resultResources);
+    }
+
     /**
      * Confirm Enrollment
      *
@@ -124,19 +159,52 @@ public class EnrollmentsController {
     }
 
     /**
-     * Gets all the enrollments.
+     * Gets a page of enrollments, ordered by id.
      *
-     * @return The list of all the enrollment resources available.
-     * @see EnrollmentResource
+     * @param after The next cursor returned with the previous page, or null to get the first page.
+     * @param size The maximum number of enrollments in the page, or null to use the default page size.
+     * @param status The enrollment status to filter by, or null to get enrollments in any status.
+     * @param courseId The course id to filter by, or null to get enrollments of any course.
+     * @return The page of enrollment resources with the cursor of the next page.
+     * @see EnrollmentsPageResource
      */
     @GetMapping
-    @Operation(summary = "Get all enrollments", description = "Get all enrollments")
+    @Operation(summary = "Get all enrollments", description = "Get a page of enrollments, optionally filtered by status and course")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Enrollments found"),
+            @ApiResponse(responseCode = "400", description = "Bad request")})
+    public ResponseEntity<EnrollmentsPageResource> getAllEnrollments(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long courseId) {
+        GetEnrollmentsPageQuery getEnrollmentsPageQuery;
+        try {
+            var enrollmentStatus = status == null ? null : EnrollmentStatus.valueOf(status.toUpperCase());
+            getEnrollmentsPageQuery = new GetEnrollmentsPageQuery(after, size, enrollmentStatus, courseId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var enrollmentsPage = enrollmentQueryService.handle(getEnrollmentsPageQuery);
+        var enrollmentsPageResource = EnrollmentsPageResourceFromEntityAssembler.toResourceFromEntity(enrollmentsPage);
+        return ResponseEntity.ok(enrollmentsPageResource);
+    }
+
+    /**
+     * Exports all enrollments, ordered by id.
+     *
+     * @param response The HTTP response the enrollment resources are written to, one per line.
+     * @throws IOException If the response cannot be written.
+     * @see EnrollmentResource
+     */
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all enrollments", description = "Stream all enrollments as newline-delimited JSON")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Enrollments found")})
-    public ResponseEntity<List<EnrollmentResource>> getAllEnrollments() {
-        var getAllEnrollmentsQuery = new GetAllEnrollmentsQuery();
-        var enrollments = enrollmentQueryService.handle(getAllEnrollmentsQuery);
-        var enrollmentResources = enrollments.stream().map(EnrollmentResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(enrollmentResources);
+            @ApiResponse(responseCode = "200", description = "Enrollments exported")})
+    public void exportAllEnrollments(HttpServletResponse response) throws IOException {
+        try (var sequence = ndjsonResponseStreamer.open(response)) {
+            enrollmentQueryService.handle(new ExportAllEnrollmentsQuery(),
+                    enrollment -> sequence.write(EnrollmentResourceFromEntityAssembler.toResourceFromEntity(enrollment)));
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.acme.center.platform.learning.interfaces.rest;
 
 import com.acme.center.platform.learning.domain.model.queries.GetStudentByAcmeStudentRecordIdQuery;
+import com.acme.center.platform.learning.domain.model.queries.GetStudentVersionByAcmeStudentRecordIdQuery;
 import com.acme.center.platform.learning.domain.model.valueobjects.AcmeStudentRecordId;
 import com.acme.center.platform.learning.domain.services.StudentCommandService;
 import com.acme.center.platform.learning.domain.services.StudentQueryService;
@@ -8,14 +9,17 @@ import com.acme.center.platform.learning.interfaces.rest.resources.CreateStudent
 import com.acme.center.platform.learning.interfaces.rest.resources.StudentResource;
 import com.acme.center.platform.learning.interfaces.rest.transform.CreateStudentCommandFromResourceAssembler;
 import com.acme.center.platform.learning.interfaces.rest.transform.StudentResourceFromEntityAssembler;
+import com.acme.center.platform.shared.interfaces.rest.conditional.ConditionalRequests;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -54,11 +58,8 @@ public class StudentsController {
             @ApiResponse(responseCode = "404", description = "Student not found")})
     public ResponseEntity<StudentResource> createStudent(CreateStudentResource resource) {
         var createStudentCommand = CreateStudentCommandFromResourceAssembler.toCommandFromResource(resource);
-        var acmeStudentRecordId = studentCommandService.handle(createStudentCommand);
-        if (acmeStudentRecordId.studentRecordId().isEmpty()) return ResponseEntity.badRequest().build();
-        var getStudentByAcmeStudentRecordIdQuery = new GetStudentByAcmeStudentRecordIdQuery(acmeStudentRecordId);
-        var student = studentQueryService.handle(getStudentByAcmeStudentRecordIdQuery);
-        if (student.isEmpty()) return ResponseEntity.notFound().build();
+        var student = studentCommandService.handle(createStudentCommand);
+        if (student.isEmpty()) return ResponseEntity.badRequest().build();
         var createdStudent = student.get();
         var studentResource = StudentResourceFromEntityAssembler.toResourceFromEntity(createdStudent);
         return new ResponseEntity<>(studentResource, HttpStatus.CREATED);
@@ -66,22 +67,31 @@ public class StudentsController {
 
     /**
      * Get student by Acme Student Record ID
+     * <p>
+     *     The version of the student is probed first, so requests whose conditional headers match it get a
+     *     {@code 304 Not Modified} without loading the student.
+     * </p>
      *
      * @param studentRecordId The Acme Student Record ID
+     * @param webRequest The current request, used to evaluate its conditional headers
      * @return The {@link StudentResource} resource for the student, or a not found response if the student was not found
      */
     @GetMapping("/{studentRecordId}")
     @Operation(summary = "Get student by Acme Student Record Id", description = "Get student by Acme Student Record Id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Student found"),
+            @ApiResponse(responseCode = "304", description = "Student not modified"),
             @ApiResponse(responseCode = "404", description = "Student not found")})
-    public ResponseEntity<StudentResource> getStudentByAcmeStudentRecordId(@PathVariable String studentRecordId) {
+    public ResponseEntity<StudentResource> getStudentByAcmeStudentRecordId(@PathVariable String studentRecordId, WebRequest webRequest) {
         var acmeStudentRecordId = new AcmeStudentRecordId(studentRecordId);
+        var version = studentQueryService.handle(new GetStudentVersionByAcmeStudentRecordIdQuery(acmeStudentRecordId));
+        if (version.isEmpty()) return ResponseEntity.notFound().build();
+        if (ConditionalRequests.checkNotModified(webRequest, version.get())) return null;
         var getStudentByAcmeStudentRecordIdQuery = new GetStudentByAcmeStudentRecordIdQuery(acmeStudentRecordId);
         var student = studentQueryService.handle(getStudentByAcmeStudentRecordIdQuery);
         if (student.isEmpty()) return ResponseEntity.notFound().build();
         var studentResource = StudentResourceFromEntityAssembler.toResourceFromEntity(student.get());
-        return ResponseEntity.ok(studentResource);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(studentResource);
     }
 
 
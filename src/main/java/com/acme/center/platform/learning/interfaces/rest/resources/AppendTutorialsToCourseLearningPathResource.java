@@ -0,0 +1,19 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Append tutorials to course learning path resource.
+ * @param tutorialIds The tutorial ids, in the order they are appended.
+ */
+public record AppendTutorialsToCourseLearningPathResource(List<Long> tutorialIds) {
+    /**
+     * Validates the resource.
+     * @throws IllegalArgumentException if the tutorial ids are null or empty.
+     */
+    public AppendTutorialsToCourseLearningPathResource {
+        if (tutorialIds == null || tutorialIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one tutorial id is required");
+        }
+    }
+}
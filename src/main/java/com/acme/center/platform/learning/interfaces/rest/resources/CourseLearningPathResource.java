@@ -0,0 +1,11 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Course learning path resource.
+ * @param courseId The course id.
+ * @param learningPathItems The entries of the learning path, in path order.
+ */
+public record CourseLearningPathResource(Long courseId, List<LearningPathEntryResource> learningPathItems) {
+}
@@ -0,0 +1,11 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+/**
+ * Enrollment request result resource.
+ * @param studentRecordId The student record id of the request.
+ * @param courseId The course id of the request.
+ * @param outcome The outcome of the request.
+ * @param enrollmentId The id of the requested enrollment, or null if the enrollment was not requested.
+ */
+public record EnrollmentRequestResultResource(String studentRecordId, Long courseId, String outcome, Long enrollmentId) {
+}
@@ -3,5 +3,5 @@ package com.acme.center.platform.learning.interfaces.rest.resources;
 /**
  * Enrollment resource.
  */
-public record EnrollmentResource(Long enrollmentId, String studentRecordId, Long courseId, String status) {
+public record EnrollmentResource(Long enrollmentId, String studentRecordId, Long courseId, String status, Long daysElapsed) {
 }
@@ -0,0 +1,11 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Enrollments page resource.
+ * @param enrollments The enrollments in the page.
+ * @param next The cursor to pass as the after parameter to get the next page, or null if this is the last page.
+ */
+public record EnrollmentsPageResource(List<EnrollmentResource> enrollments, Long next) {
+}
@@ -0,0 +1,9 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+/**
+ * Learning path entry resource.
+ * @param tutorialId The tutorial id.
+ * @param position The position of the tutorial in the learning path, entries are ordered by ascending position.
+ */
+public record LearningPathEntryResource(Long tutorialId, Long position) {
+}
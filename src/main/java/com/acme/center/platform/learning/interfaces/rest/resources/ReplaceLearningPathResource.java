@@ -0,0 +1,19 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Replace learning path resource.
+ * @param tutorialIds The tutorial ids of the new learning path, in path order. An empty list clears the learning path.
+ */
+public record ReplaceLearningPathResource(List<Long> tutorialIds) {
+    /**
+     * Validates the resource.
+     * @throws IllegalArgumentException if the tutorial ids are null.
+     */
+    public ReplaceLearningPathResource {
+        if (tutorialIds == null) {
+            throw new IllegalArgumentException("Tutorial ids are required");
+        }
+    }
+}
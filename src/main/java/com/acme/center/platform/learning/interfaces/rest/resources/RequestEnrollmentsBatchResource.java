@@ -0,0 +1,19 @@
+package com.acme.center.platform.learning.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Request enrollments batch resource.
+ * @param enrollments The enrollments to request.
+ */
+public record RequestEnrollmentsBatchResource(List<RequestEnrollmentResource> enrollments) {
+    /**
+     * Validates the resource.
+     * @throws IllegalArgumentException if the enrollments are null or empty.
+     */
+    public RequestEnrollmentsBatchResource {
+        if (enrollments == null || enrollments.isEmpty()) {
+            throw new IllegalArgumentException("At least one enrollment is required");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.acme.center.platform.learning.interfaces.rest.transform;
+
+import com.acme.center.platform.learning.domain.model.commands.AppendTutorialsToCourseLearningPathCommand;
+import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
+import com.acme.center.platform.learning.interfaces.rest.resources.AppendTutorialsToCourseLearningPathResource;
+
+/**
+ * Assembler to convert an AppendTutorialsToCourseLearningPathResource to an AppendTutorialsToCourseLearningPathCommand.
+ */
+public class AppendTutorialsToCourseLearningPathCommandFromResourceAssembler {
+    /**
+     * Converts an AppendTutorialsToCourseLearningPathResource to an AppendTutorialsToCourseLearningPathCommand.
+     *
+     * @param courseId The course ID.
+     * @param resource The {@link AppendTutorialsToCourseLearningPathResource} resource to convert.
+     * @return The {@link AppendTutorialsToCourseLearningPathCommand} command that results from the conversion.
+     */
+    public static AppendTutorialsToCourseLearningPathCommand toCommandFromResource(Long courseId, AppendTutorialsToCourseLearningPathResource resource) {
+        var tutorialIds = resource.tutorialIds().stream()
+                .map(TutorialId::new)
+                .toList();
+        return new AppendTutorialsToCourseLearningPathCommand(courseId, tutorialIds);
+    }
+}
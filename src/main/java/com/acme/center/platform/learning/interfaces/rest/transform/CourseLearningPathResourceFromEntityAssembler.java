@@ -0,0 +1,33 @@
+package com.acme.center.platform.learning.interfaces.rest.transform;
+
+import com.acme.center.platform.learning.domain.model.readmodels.CourseLearningPath;
+import com.acme.center.platform.learning.interfaces.rest.resources.CourseLearningPathResource;
+import com.acme.center.platform.learning.interfaces.rest.resources.LearningPathEntryResource;
+
+/**
+ * Assembler to convert a CourseLearningPath read model to a CourseLearningPathResource.
+ */
+public class CourseLearningPathResourceFromEntityAssembler {
+    /**
+     * Converts a CourseLearningPath read model to a CourseLearningPathResource.
+     *
+     * @param learningPath The {@link CourseLearningPath} read model to convert.
+     * @return The {@link CourseLearningPathResource} resource that results from the conversion.
+     */
+    public static CourseLearningPathResource toResourceFromEntity(CourseLearningPath learningPath) {
+        var entryResources = learningPath.entries().stream()
+                .map(entry -> new LearningPathEntryResource(entry.tutorialId(), entry.position()))
+                .toList();
+        return new CourseLearningPathResource(learningPath.courseId(), entryResources);
+    }
+
+    /**
+     * Builds the entity tag of a CourseLearningPath read model.
+     *
+     * @param learningPath The {@link CourseLearningPath} read model.
+     * @return The quoted entity tag, that changes whenever the learning path changes.
+     */
+    public static String toEntityTagFromEntity(CourseLearningPath learningPath) {
+        return "\"%d-%s\"".formatted(learningPath.courseId(), Long.toHexString(learningPath.fingerprint()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.acme.center.platform.learning.interfaces.rest.transform;
 
 import com.acme.center.platform.learning.domain.model.aggregates.Course;
+import com.acme.center.platform.learning.domain.model.readmodels.CourseCatalogEntry;
 import com.acme.center.platform.learning.interfaces.rest.resources.CourseResource;
 
 /**
@@ -16,4 +17,14 @@ public class CourseResourceFromEntityAssembler {
     public static CourseResource toResourceFromEntity(Course entity) {
         return new CourseResource(entity.getId(), entity.getTitle(), entity.getDescription());
     }
+
+    /**
+     * Converts a CourseCatalogEntry read model to a CourseResource.
+     *
+     * @param entry The {@link CourseCatalogEntry} read model to convert.
+     * @return The {@link CourseResource} resource that results from the conversion.
+     */
+    public static CourseResource toResourceFromEntity(CourseCatalogEntry entry) {
+        return new CourseResource(entry.id(), entry.title(), entry.description());
+    }
 }
@@ -0,0 +1,23 @@
+package com.acme.center.platform.learning.interfaces.rest.transform;
+
+import com.acme.center.platform.learning.domain.model.results.EnrollmentRequestResult;
+import com.acme.center.platform.learning.interfaces.rest.resources.EnrollmentRequestResultResource;
+
+/**
+ * Assembler to convert an EnrollmentRequestResult result to an EnrollmentRequestResultResource.
+ */
+public class EnrollmentRequestResultResourceFromEntityAssembler {
+    /**
+     * Converts an EnrollmentRequestResult result to an EnrollmentRequestResultResource.
+     *
+     * @param result The {@link EnrollmentRequestResult} result to convert.
+     * @return The {@link EnrollmentRequestResultResource} resource that results from the conversion.
+     */
+    public static EnrollmentRequestResultResource toResourceFromEntity(EnrollmentRequestResult result) {
+        return new EnrollmentRequestResultResource(
+                result.studentRecordId().studentRecordId(),
+                result.courseId(),
+                result.outcome().name(),
+                result.enrollmentId());
+    }
+}
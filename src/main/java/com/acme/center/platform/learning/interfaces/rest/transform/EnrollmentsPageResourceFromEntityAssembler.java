@@ -0,0 +1,22 @@
+package com.acme.center.platform.learning.interfaces.rest.transform;
+
+import com.acme.center.platform.learning.domain.model.results.EnrollmentsPage;
+import com.acme.center.platform.learning.interfaces.rest.resources.EnrollmentsPageResource;
+
+/**
+ * Assembler to convert an EnrollmentsPage result to an EnrollmentsPageResource.
+ */
+public class EnrollmentsPageResourceFromEntityAssembler {
+    /**
+     * Converts an EnrollmentsPage result to an EnrollmentsPageResource.
+     *
+     * @param page The {@link EnrollmentsPage} result to convert.
+     * @return The {@link EnrollmentsPageResource} resource that results from the conversion.
+     */
+    public static EnrollmentsPageResource toResourceFromEntity(EnrollmentsPage page) {
+        var enrollmentResources = page.enrollments().stream()
+                .map(EnrollmentResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+        return new EnrollmentsPageResource(enrollmentResources, page.nextAfterId());
+    }
+}
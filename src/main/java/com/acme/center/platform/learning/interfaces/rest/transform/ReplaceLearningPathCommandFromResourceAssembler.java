@@ -0,0 +1,24 @@
+package com.acme.center.platform.learning.interfaces.rest.transform;
+
+import com.acme.center.platform.learning.domain.model.commands.ReplaceLearningPathCommand;
+import com.acme.center.platform.learning.domain.model.valueobjects.TutorialId;
+import com.acme.center.platform.learning.interfaces.rest.resources.ReplaceLearningPathResource;
+
+/**
+ * Assembler to convert a ReplaceLearningPathResource to a ReplaceLearningPathCommand.
+ */
+public class ReplaceLearningPathCommandFromResourceAssembler {
+    /**
+     * Converts a ReplaceLearningPathResource to a ReplaceLearningPathCommand.
+     *
+     * @param courseId The course ID.
+     * @param resource The {@link ReplaceLearningPathResource} resource to convert.
+     * @return The {@link ReplaceLearningPathCommand} command that results from the conversion.
+     */
+    public static ReplaceLearningPathCommand toCommandFromResource(Long courseId, ReplaceLearningPathResource resource) {
+        var tutorialIds = resource.tutorialIds().stream()
+                .map(TutorialId::new)
+                .toList();
+        return new ReplaceLearningPathCommand(courseId, tutorialIds);
+    }
+}
@@ -0,0 +1,22 @@
+package com.acme.center.platform.learning.interfaces.rest.transform;
+
+import com.acme.center.platform.learning.domain.model.commands.RequestEnrollmentsBatchCommand;
+import com.acme.center.platform.learning.interfaces.rest.resources.RequestEnrollmentsBatchResource;
+
+/**
+ * Assembler to convert a RequestEnrollmentsBatchResource to a RequestEnrollmentsBatchCommand.
+ */
+public class RequestEnrollmentsBatchCommandFromResourceAssembler {
+    /**
+     * Converts a RequestEnrollmentsBatchResource to a RequestEnrollmentsBatchCommand.
+     *
+     * @param resource The {@link RequestEnrollmentsBatchResource} resource to convert.
+     * @return The {@link RequestEnrollmentsBatchCommand} command that results from the conversion.
+     */
+    public static RequestEnrollmentsBatchCommand toCommandFromResource(RequestEnrollmentsBatchResource resource) {
+        var requests = resource.enrollments().stream()
+                .map(RequestEnrollmentCommandFromResourceAssembler::toCommandFromResource)
+                .toList();
+        return new RequestEnrollmentsBatchCommand(requests);
+    }
+}
@@ -1,15 +1,21 @@
 package com.acme.center.platform.profiles.application.internal.queryservices;
 
 import com.acme.center.platform.profiles.domain.model.aggregates.Profile;
+import com.acme.center.platform.profiles.domain.model.queries.ExportAllProfilesQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetAllProfilesQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetProfileByEmailQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetProfileByIdQuery;
+import com.acme.center.platform.profiles.domain.model.queries.GetProfileVersionByIdQuery;
 import com.acme.center.platform.profiles.domain.services.ProfileQueryService;
 import com.acme.center.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.DetachingStreamReader;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Profile Query Service Implementation
@@ -17,14 +23,17 @@ import java.util.Optional;
 @Service
 public class ProfileQueryServiceImpl implements ProfileQueryService {
     private final ProfileRepository profileRepository;
+    private final DetachingStreamReader detachingStreamReader;
 
     /**
      * Constructor
      *
      * @param profileRepository The {@link ProfileRepository} instance
+     * @param detachingStreamReader The {@link DetachingStreamReader} instance
      */
-    public ProfileQueryServiceImpl(ProfileRepository profileRepository) {
+    public ProfileQueryServiceImpl(ProfileRepository profileRepository, DetachingStreamReader detachingStreamReader) {
         this.profileRepository = profileRepository;
+        this.detachingStreamReader = detachingStreamReader;
     }
 
     // inherited javadoc
@@ -33,6 +42,12 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
         return profileRepository.findById(query.profileId());
     }
 
+    // inherited javadoc
+    @Override
+    public Optional<AggregateVersion> handle(GetProfileVersionByIdQuery query) {
+        return profileRepository.findVersionById(query.profileId());
+    }
+
     // inherited javadoc
     @Override
     public Optional<Profile> handle(GetProfileByEmailQuery query) {
@@ -44,4 +59,11 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
     public List<Profile> handle(GetAllProfilesQuery query) {
         return profileRepository.findAll();
     }
+
+    // inherited javadoc
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(ExportAllProfilesQuery query, Consumer<Profile> consumer) {
+        detachingStreamReader.forEach(profileRepository.streamAllByOrderByIdAsc(), consumer);
+    }
 }
@@ -0,0 +1,7 @@
+package com.acme.center.platform.profiles.domain.model.queries;
+
+/**
+ * Query to export all profiles, reading them one by one instead of as a list.
+ */
+public record ExportAllProfilesQuery() {
+}
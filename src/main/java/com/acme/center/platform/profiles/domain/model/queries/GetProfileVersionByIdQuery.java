@@ -0,0 +1,7 @@
+package com.acme.center.platform.profiles.domain.model.queries;
+
+/**
+ * Get Profile Version By ID Query
+ */
+public record GetProfileVersionByIdQuery(Long profileId) {
+}
@@ -1,12 +1,16 @@
 package com.acme.center.platform.profiles.domain.services;
 
 import com.acme.center.platform.profiles.domain.model.aggregates.Profile;
+import com.acme.center.platform.profiles.domain.model.queries.ExportAllProfilesQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetAllProfilesQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetProfileByEmailQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetProfileByIdQuery;
+import com.acme.center.platform.profiles.domain.model.queries.GetProfileVersionByIdQuery;
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Profile Query Service
@@ -20,6 +24,14 @@ public interface ProfileQueryService {
      */
     Optional<Profile> handle(GetProfileByIdQuery query);
 
+    /**
+     * Handle Get Profile Version By ID Query
+     *
+     * @param query The {@link GetProfileVersionByIdQuery} Query
+     * @return An {@link AggregateVersion} instance if the profile exists, otherwise empty
+     */
+    Optional<AggregateVersion> handle(GetProfileVersionByIdQuery query);
+
     /**
      * Handle Get Profile By Email Query
      *
@@ -35,4 +47,12 @@ public interface ProfileQueryService {
      * @return A list of {@link Profile} instances
      */
     List<Profile> handle(GetAllProfilesQuery query);
+
+    /**
+     * Handle Export All Profiles Query
+     *
+     * @param query The {@link ExportAllProfilesQuery} Query
+     * @param consumer The consumer that receives each {@link Profile} instance, in id order, as it is read
+     */
+    void handle(ExportAllProfilesQuery query, Consumer<Profile> consumer);
 }
@@ -2,10 +2,18 @@ package com.acme.center.platform.profiles.infrastructure.persistence.jpa.reposit
 
 import com.acme.center.platform.profiles.domain.model.aggregates.Profile;
 import com.acme.center.platform.profiles.domain.model.valueobjects.EmailAddress;
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming.StreamingQueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Profile Repository
@@ -27,4 +35,25 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
      * @return True if the email address exists, otherwise false
      */
     boolean existsByEmailAddress(EmailAddress emailAddress);
+
+    /**
+     * Find the version of a Profile by ID, without loading the Profile
+     *
+     * @param id The Profile ID
+     * @return An {@link AggregateVersion} instance if the profile exists, otherwise empty
+     */
+    @Query("select new com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion(p.id, p.updatedAt) from Profile p where p.id = :id")
+    Optional<AggregateVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Read all Profiles, ordered by id, through a forward-only streaming result set
+     * <p>The profiles are streamed one row at a time and are not tracked for changes.
+     * It must be called inside a transaction, and the stream must be closed after use.</p>
+     *
+     * @return A stream of all the {@link Profile} instances
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueryHints.ROW_BY_ROW_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Profile> streamAllByOrderByIdAsc();
 }
@@ -1,22 +1,30 @@
 package com.acme.center.platform.profiles.interfaces.rest;
 
+import com.acme.center.platform.profiles.domain.model.queries.ExportAllProfilesQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetAllProfilesQuery;
 import com.acme.center.platform.profiles.domain.model.queries.GetProfileByIdQuery;
+import com.acme.center.platform.profiles.domain.model.queries.GetProfileVersionByIdQuery;
 import com.acme.center.platform.profiles.domain.services.ProfileCommandService;
 import com.acme.center.platform.profiles.domain.services.ProfileQueryService;
 import com.acme.center.platform.profiles.interfaces.rest.resources.CreateProfileResource;
 import com.acme.center.platform.profiles.interfaces.rest.resources.ProfileResource;
 import com.acme.center.platform.profiles.interfaces.rest.transform.CreateProfileCommandFromResourceAssembler;
 import com.acme.center.platform.profiles.interfaces.rest.transform.ProfileResourceFromEntityAssembler;
+import com.acme.center.platform.shared.interfaces.rest.conditional.ConditionalRequests;
+import com.acme.center.platform.shared.interfaces.rest.streaming.NdjsonResponseStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -28,15 +36,19 @@ import java.util.List;
 public class ProfilesController {
     private final ProfileCommandService profileCommandService;
     private final ProfileQueryService profileQueryService;
+    private final NdjsonResponseStreamer ndjsonResponseStreamer;
 
     /**
      * Constructor
      * @param profileCommandService The {@link ProfileCommandService} instance
      * @param profileQueryService The {@link ProfileQueryService} instance
+     * @param ndjsonResponseStreamer The {@link NdjsonResponseStreamer} instance
      */
-    public ProfilesController(ProfileCommandService profileCommandService, ProfileQueryService profileQueryService) {
+    public ProfilesController(ProfileCommandService profileCommandService, ProfileQueryService profileQueryService,
+                              NdjsonResponseStreamer ndjsonResponseStreamer) {
         this.profileCommandService = profileCommandService;
         this.profileQueryService = profileQueryService;
+        this.ndjsonResponseStreamer = ndjsonResponseStreamer;
     }
 
     /**
@@ -60,21 +72,28 @@ public class ProfilesController {
 
     /**
      * Get a profile by ID
+     * <p>The version of the profile is probed first, so requests whose conditional headers match it get a
+     * {@code 304 Not Modified} without loading the profile.</p>
      * @param profileId The profile ID
+     * @param webRequest The current request, used to evaluate its conditional headers
      * @return A {@link ProfileResource} resource for the profile, or a not found response if the profile could not be found.
      */
     @GetMapping("/{profileId}")
     @Operation(summary = "Get a profile by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Profile found"),
+            @ApiResponse(responseCode = "304", description = "Profile not modified"),
             @ApiResponse(responseCode = "404", description = "Profile not found")})
-    public ResponseEntity<ProfileResource> getProfileById(@PathVariable Long profileId) {
+    public ResponseEntity<ProfileResource> getProfileById(@PathVariable Long profileId, WebRequest webRequest) {
+        var version = profileQueryService.handle(new GetProfileVersionByIdQuery(profileId));
+        if (version.isEmpty()) return ResponseEntity.notFound().build();
+        if (ConditionalRequests.checkNotModified(webRequest, version.get())) return null;
         var getProfileByIdQuery = new GetProfileByIdQuery(profileId);
         var profile = profileQueryService.handle(getProfileByIdQuery);
         if (profile.isEmpty()) return ResponseEntity.notFound().build();
         var profileEntity = profile.get();
         var profileResource = ProfileResourceFromEntityAssembler.toResourceFromEntity(profileEntity);
-        return ResponseEntity.ok(profileResource);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(profileResource);
     }
 
     /**
@@ -95,4 +114,20 @@ public class ProfilesController {
         return ResponseEntity.ok(profileResources);
     }
 
+    /**
+     * Export all profiles
+     * @param response The HTTP response the {@link ProfileResource} resources are written to, one per line
+     * @throws IOException If the response cannot be written
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all profiles")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Profiles exported")})
+    public void exportAllProfiles(HttpServletResponse response) throws IOException {
+        try (var sequence = ndjsonResponseStreamer.open(response)) {
+            profileQueryService.handle(new ExportAllProfilesQuery(),
+                    profile -> sequence.write(ProfileResourceFromEntityAssembler.toResourceFromEntity(profile)));
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.acme.center.platform.shared.domain.model.aggregates;
 
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.identifiers.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -14,6 +15,8 @@ import java.util.Date;
  *
  * @param <T> the type of the aggregate root
  * @summary The class is an abstract class that extends the {@link AbstractAggregateRoot} class and adds auditing fields to the class.
+ * The version is checked and incremented on every update, so a change based on a stale copy of the aggregate
+ * fails with an optimistic locking exception instead of overwriting a concurrent change.
  */
 @Getter
 @EntityListeners(AuditingEntityListener.class)
@@ -21,7 +24,7 @@ import java.util.Date;
 public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>> extends AbstractAggregateRoot<T> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
     @CreatedDate
     @Column(nullable = false, updatable = false)
@@ -29,6 +32,9 @@ public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>>
     @LastModifiedDate
     @Column(nullable = false)
     private Date updatedAt;
+    @Version
+    @Column(nullable = false)
+    private long version;
 
     /**
      * Registers a domain event.
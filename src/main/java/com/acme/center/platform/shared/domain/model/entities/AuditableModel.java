@@ -1,5 +1,6 @@
 package com.acme.center.platform.shared.domain.model.entities;
 
+import com.acme.center.platform.shared.infrastructure.persistence.jpa.identifiers.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -13,7 +14,7 @@ import java.util.Date;
 public class AuditableModel {
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Getter
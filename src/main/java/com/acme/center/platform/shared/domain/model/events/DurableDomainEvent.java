@@ -0,0 +1,30 @@
+package com.acme.center.platform.shared.domain.model.events;
+
+/**
+ * Durable domain event
+ * @summary
+ * Domain event that must not be lost once the transaction that raised it commits.
+ * It is stored in the outbox in the same transaction as the aggregate and dispatched to its handlers afterward.
+ * The payload is stored as JSON, so it must only hold plain values, never aggregates or entities.
+ *
+ * @since 1.0.0
+ */
+public interface DurableDomainEvent {
+    /**
+     * Get the event type
+     * @return the stable name handlers subscribe to, which must not change once events of the type are stored
+     */
+    String getEventType();
+
+    /**
+     * Get the idempotency key
+     * @return the key identifying the occurrence, so the same occurrence is stored and handled only once
+     */
+    String getIdempotencyKey();
+
+    /**
+     * Get the payload
+     * @return the data of the event passed to its handlers
+     */
+    Object getPayload();
+}
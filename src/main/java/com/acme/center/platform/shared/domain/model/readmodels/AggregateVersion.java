@@ -0,0 +1,34 @@
+package com.acme.center.platform.shared.domain.model.readmodels;
+
+import java.util.Date;
+
+/**
+ * Aggregate version
+ * @summary
+ * Immutable snapshot of the state markers of an aggregate, read without loading the aggregate.
+ * Two reads of the same aggregate return equal versions only if its state did not change in between.
+ * @param id The aggregate id
+ * @param updatedAt The last time the aggregate was saved
+ * @param revision A counter of the changes not yet reflected in the updated at timestamp, 0 when there are none
+ * @since 1.0
+ */
+public record AggregateVersion(Long id, Date updatedAt, long revision) {
+
+    /**
+     * Create the version of an aggregate whose state is fully reflected in its updated at timestamp
+     * @param id The aggregate id
+     * @param updatedAt The last time the aggregate was saved
+     */
+    public AggregateVersion(Long id, Date updatedAt) {
+        this(id, updatedAt, 0L);
+    }
+
+    /**
+     * Create a copy of this version with the given revision
+     * @param revision The counter of the changes not yet reflected in the updated at timestamp
+     * @return The new version
+     */
+    public AggregateVersion withRevision(long revision) {
+        return new AggregateVersion(id, updatedAt, revision);
+    }
+}
@@ -0,0 +1,33 @@
+package com.acme.center.platform.shared.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Outbox event handler
+ * <p>
+ *     Handles the durable domain events of one event type, read from the outbox by the {@link OutboxRelay}.
+ *     Payloads are handled in batches, inside the transaction that marks their messages as dispatched,
+ *     so the side effects of a message and its dispatch are committed together.
+ * </p>
+ *
+ * @param <P> the type the payload is read as
+ */
+public interface OutboxEventHandler<P> {
+    /**
+     * Get the event type
+     * @return the event type this handler handles
+     */
+    String getEventType();
+
+    /**
+     * Get the payload type
+     * @return the class the stored JSON payload is read as
+     */
+    Class<P> getPayloadType();
+
+    /**
+     * Handle a batch of events
+     * @param payloads the payloads of the events, in the order the events were stored
+     */
+    void handle(List<P> payloads);
+}
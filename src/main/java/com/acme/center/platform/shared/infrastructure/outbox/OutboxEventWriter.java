@@ -0,0 +1,44 @@
+package com.acme.center.platform.shared.infrastructure.outbox;
+
+import com.acme.center.platform.shared.domain.model.events.DurableDomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Outbox event writer
+ * <p>
+ *     Stores every durable domain event in the outbox right before the transaction that raised it commits,
+ *     so the event is committed together with the aggregate, or not at all.
+ *     An event raised outside a transaction is stored on its own.
+ *     An event whose idempotency key is already stored is ignored.
+ * </p>
+ */
+@Component
+public class OutboxEventWriter {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Store a durable domain event in the outbox
+     * @param event the durable domain event
+     * @throws IllegalStateException if the payload cannot be written as JSON
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(DurableDomainEvent event) {
+        if (outboxMessageRepository.existsByIdempotencyKey(event.getIdempotencyKey())) return;
+        try {
+            var payload = objectMapper.writeValueAsString(event.getPayload());
+            outboxMessageRepository.save(new OutboxMessage(event.getIdempotencyKey(), event.getEventType(), payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to write payload of event " + event.getEventType(), e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.acme.center.platform.shared.infrastructure.outbox;
+
+import com.acme.center.platform.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Outbox message
+ * @summary
+ * A durable domain event stored in the same transaction as the aggregate that raised it.
+ * Dispatched messages are kept, so they can be replayed by setting them back to pending.
+ *
+ * @see OutboxMessageStatus
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "ix_outbox_messages_status_id", columnList = "status, id"))
+public class OutboxMessage extends AuditableModel {
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    @Column(nullable = false, unique = true)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxMessageStatus status;
+
+    private int attempts;
+
+    @Column(length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    private Date dispatchedAt;
+
+    public OutboxMessage() {
+        // Required by JPA
+    }
+
+    public OutboxMessage(String idempotencyKey, String eventType, String payload) {
+        this.idempotencyKey = idempotencyKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxMessageStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    /**
+     * Mark the message as dispatched
+     */
+    public void markDispatched() {
+        this.attempts++;
+        this.status = OutboxMessageStatus.DISPATCHED;
+        this.dispatchedAt = new Date();
+        this.lastError = null;
+    }
+
+    /**
+     * Record a failed dispatch attempt
+     * @param error the error of the attempt
+     * @param maximumAttempts the number of attempts after which the message is no longer retried
+     */
+    public void recordFailedAttempt(String error, int maximumAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= LAST_ERROR_MAX_LENGTH ? error : error.substring(0, LAST_ERROR_MAX_LENGTH);
+        if (this.attempts >= maximumAttempts) this.status = OutboxMessageStatus.FAILED;
+    }
+}
@@ -0,0 +1,42 @@
+package com.acme.center.platform.shared.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox message repository
+ * <p>This interface is used to store outbox messages and to claim the pending ones for dispatch.</p>
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+    /**
+     * This method is used to check if a message with the given idempotency key is already stored.
+     * @param idempotencyKey The idempotency key.
+     * @return True if a message with the idempotency key exists, false otherwise.
+     */
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * This method is used to lock the oldest pending messages for dispatch.
+     * Messages already locked by another relay are skipped, so concurrent relays never claim the same message.
+     * It must be called inside a transaction, and the messages stay locked until it ends.
+     * @param limit The maximum number of messages to lock.
+     * @return A list of pending messages, ordered by id.
+     */
+    @Query(value = "select * from outbox_messages where status = 'PENDING' order by id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboxMessage> findNextPendingForUpdate(@Param("limit") int limit);
+
+    /**
+     * This method is used to lock a pending message for dispatch.
+     * It must be called inside a transaction, and the message stays locked until it ends.
+     * @param id The message id.
+     * @return An optional with the message, or an empty optional if it is no longer pending or is locked by another relay.
+     */
+    @Query(value = "select * from outbox_messages where id = :id and status = 'PENDING' for update skip locked", nativeQuery = true)
+    Optional<OutboxMessage> findPendingByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,19 @@
+package com.acme.center.platform.shared.infrastructure.outbox;
+
+/**
+ * Status of an outbox message
+ */
+public enum OutboxMessageStatus {
+    /**
+     * Waiting to be dispatched
+     */
+    PENDING,
+    /**
+     * Dispatched to its handler
+     */
+    DISPATCHED,
+    /**
+     * Failed on every attempt, no longer retried
+     */
+    FAILED
+}
@@ -0,0 +1,165 @@
+package com.acme.center.platform.shared.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox relay
+ * <p>
+ *     Polls the outbox for pending messages and dispatches them to the {@link OutboxEventHandler} of their event type.
+ *     Each batch is claimed with {@code SKIP LOCKED}, handled and marked as dispatched in a single transaction,
+ *     so a message is dispatched once even with several application instances, and its side effects are never
+ *     committed without its dispatch, or the other way around.
+ * </p>
+ * <p>
+ *     When a batch fails, its messages are dispatched one by one, so a failing message does not hold back the others.
+ *     A message that keeps failing is marked as failed after the maximum number of attempts.
+ *     Dispatched and failed messages, and batch durations, are published as {@code outbox.*} metrics.
+ * </p>
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final Map<String, OutboxEventHandler<?>> handlersByEventType;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+    private final int batchSize;
+    private final int maximumAttempts;
+
+    public OutboxRelay(
+            OutboxMessageRepository outboxMessageRepository,
+            List<OutboxEventHandler<?>> handlers,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size}") int batchSize,
+            @Value("${outbox.relay.maximum-attempts}") int maximumAttempts) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.handlersByEventType = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::getEventType, Function.identity()));
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("outbox.relay.batch.duration")
+                .description("Time spent claiming, handling and marking a batch of outbox messages")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maximumAttempts = maximumAttempts;
+    }
+
+    /**
+     * Dispatch the pending messages, batch after batch, until no full batch is left
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayNextBatch();
+        } while (relayed >= batchSize);
+    }
+
+    /**
+     * Claim, handle and mark the next batch of pending messages
+     * @return the number of messages dispatched, or 0 if the batch failed
+     */
+    private int relayNextBatch() {
+        var claimedIds = new ArrayList<Long>();
+        try {
+            var relayed = batchTimer.record(() -> transactionTemplate.execute(status -> {
+                var messages = outboxMessageRepository.findNextPendingForUpdate(batchSize);
+                messages.forEach(message -> claimedIds.add(message.getId()));
+                dispatch(messages);
+                return messages.size();
+            }));
+            return Objects.isNull(relayed) ? 0 : relayed;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Outbox batch of {} messages failed, dispatching them one by one", claimedIds.size(), e);
+            claimedIds.forEach(this::relayMessage);
+            return 0;
+        }
+    }
+
+    /**
+     * Claim, handle and mark a single message, recording the attempt if it fails
+     * @param messageId the message id
+     */
+    private void relayMessage(Long messageId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.findPendingByIdForUpdate(messageId)
+                    .ifPresent(message -> dispatch(List.of(message))));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Outbox message {} failed", messageId, e);
+            transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.findById(messageId).ifPresent(message -> {
+                message.recordFailedAttempt(e.getMessage(), maximumAttempts);
+                outboxMessageRepository.save(message);
+                Counter.builder("outbox.messages.failed")
+                        .description("Failed outbox message dispatch attempts")
+                        .tag("event.type", message.getEventType())
+                        .register(meterRegistry)
+                        .increment();
+            }));
+        }
+    }
+
+    /**
+     * Hand the messages to their handlers, grouped by event type, and mark them as dispatched
+     * @param messages the claimed messages, ordered by id
+     * @throws IllegalStateException if an event type has no handler or a payload cannot be read
+     */
+    private void dispatch(List<OutboxMessage> messages) {
+        var messagesByEventType = messages.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::getEventType, LinkedHashMap::new, Collectors.toList()));
+        messagesByEventType.forEach((eventType, eventTypeMessages) -> {
+            var handler = handlersByEventType.get(eventType);
+            if (Objects.isNull(handler))
+                throw new IllegalStateException("No outbox event handler for event type " + eventType);
+            dispatch(handler, eventTypeMessages);
+            eventTypeMessages.forEach(OutboxMessage::markDispatched);
+            Counter.builder("outbox.messages.dispatched")
+                    .description("Outbox messages dispatched to their handlers")
+                    .tag("event.type", eventType)
+                    .register(meterRegistry)
+                    .increment(eventTypeMessages.size());
+        });
+    }
+
+    /**
+     * Read the payloads of the messages and hand them to a handler
+     * @param handler the handler of the event type of the messages
+     * @param messages the messages of a single event type
+     * @param <P> the type the payload is read as
+     */
+    private <P> void dispatch(OutboxEventHandler<P> handler, List<OutboxMessage> messages) {
+        var payloads = new ArrayList<P>(messages.size());
+        for (var message : messages) {
+            try {
+                payloads.add(objectMapper.readValue(message.getPayload(), handler.getPayloadType()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unable to read payload of outbox message " + message.getId(), e);
+            }
+        }
+        handler.handle(payloads);
+    }
+}
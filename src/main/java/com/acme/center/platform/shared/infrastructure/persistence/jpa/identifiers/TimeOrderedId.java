@@ -0,0 +1,25 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.identifiers;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Time Ordered Id
+ * @summary
+ * Marks an identifier whose value is generated by the application, before the entity is inserted,
+ * as a time-ordered id allocated by {@link TimeOrderedIdGenerator}.
+ * Since the id is known before the insert, Hibernate can group the inserts in JDBC batches.
+ *
+ * @since 1.0.0
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
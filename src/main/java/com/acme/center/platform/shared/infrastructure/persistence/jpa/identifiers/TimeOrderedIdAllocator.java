@@ -0,0 +1,114 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.identifiers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Time Ordered Id Allocator
+ * @summary
+ * Allocates 53-bit ids made of the milliseconds elapsed since {@value #EPOCH_MILLIS} (41 bits),
+ * the node id (5 bits) and a per-millisecond sequence (7 bits).
+ * Ids allocated later are always greater, and they fit in a JavaScript number, so clients can read them from JSON.
+ * When the sequence of a millisecond is exhausted, or the system clock moves backwards, the allocator moves on to
+ * the next millisecond of its own clock instead of waiting, so ids never repeat and never decrease while it runs.
+ * <p>
+ * Its own clock can therefore run ahead of the system clock, and it is lost on restart.
+ * Before allocating ids for a table, {@link #advancePast(long)} must be called with the highest id stored in it,
+ * so ids allocated after a restart, or after the system clock steps backwards, stay above the ids already stored.
+ * </p>
+ * <p>
+ * Rows inserted before these ids existed keep their auto-increment ids. Those ids are far below any time-ordered id,
+ * so existing rows need no migration, and ordering by id still follows insertion order.
+ * Every application instance writing to the same database must use a distinct node id.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public final class TimeOrderedIdAllocator {
+    /**
+     * Start of the id clock, 2024-01-01T00:00:00Z
+     */
+    public static final long EPOCH_MILLIS = 1704067200000L;
+    public static final int NODE_ID_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private static final int TIMESTAMP_BITS = 41;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final Map<Integer, TimeOrderedIdAllocator> ALLOCATORS_BY_NODE_ID = new ConcurrentHashMap<>();
+
+    private final long shiftedNodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    private TimeOrderedIdAllocator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * Create an allocator reading the current time from the given clock
+     * @param nodeId the node id, between 0 and {@value #MAX_NODE_ID}
+     * @param clock the clock, in milliseconds since the Unix epoch
+     */
+    TimeOrderedIdAllocator(int nodeId, LongSupplier clock) {
+        this.shiftedNodeId = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the allocator of a node
+     * @param nodeId the node id, between 0 and {@value #MAX_NODE_ID}
+     * @return the allocator shared by every caller with the same node id
+     * @throws IllegalArgumentException if the node id is out of range
+     */
+    public static TimeOrderedIdAllocator forNode(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        return ALLOCATORS_BY_NODE_ID.computeIfAbsent(nodeId, TimeOrderedIdAllocator::new);
+    }
+
+    /**
+     * Allocate the next id
+     * @return an id greater than every id previously allocated by this allocator
+     * @throws IllegalStateException if the 41-bit timestamp is exhausted
+     */
+    public synchronized long nextId() {
+        long timestamp = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) timestamp++;
+        } else {
+            sequence = 0;
+        }
+        if (timestamp > MAX_TIMESTAMP) throw new IllegalStateException("Time ordered id timestamp exhausted");
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | shiftedNodeId | sequence;
+    }
+
+    /**
+     * Move the clock of the allocator past an id already stored, so every id allocated afterward is greater
+     * @summary
+     * Ids allocated before the clock of the id, or in the same millisecond, could repeat it.
+     * The allocator moves on to the end of that millisecond, and ids older than its own clock are ignored.
+     * Auto-increment ids of rows inserted before these ids existed are far below any time-ordered id and are ignored too.
+     * @param id the highest id already stored
+     */
+    public synchronized void advancePast(long id) {
+        long timestamp = timestampOf(id);
+        if (timestamp < lastTimestamp) return;
+        lastTimestamp = timestamp;
+        sequence = SEQUENCE_MASK;
+    }
+
+    /**
+     * Get the timestamp of an id
+     * @param id the id
+     * @return the milliseconds elapsed since {@value #EPOCH_MILLIS} when the id was allocated
+     */
+    public static long timestampOf(long id) {
+        return id >>> (NODE_ID_BITS + SEQUENCE_BITS);
+    }
+}
@@ -0,0 +1,74 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.identifiers;
+
+import org.hibernate.FlushMode;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Time Ordered Id Generator
+ * @summary
+ * Hibernate generator for identifiers annotated with {@link TimeOrderedId}.
+ * It takes the node id from the {@value #NODE_ID_SETTING} Hibernate setting and allocates ids from the
+ * {@link TimeOrderedIdAllocator} of that node, so every entity type of the application shares one allocator.
+ * The node id has no default: an application instance without one fails to start, instead of silently
+ * sharing node 0 with every other instance.
+ * Before the first id of each entity type is allocated, the allocator is moved past the highest id stored in its table,
+ * so ids stay unique across restarts and backward steps of the system clock.
+ *
+ * @since 1.0.0
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+    /**
+     * Hibernate setting with the node id of this application instance, required
+     */
+    public static final String NODE_ID_SETTING = "acme.identifiers.node-id";
+
+    private final TimeOrderedIdAllocator allocator;
+    private final Set<String> seededEntityNames = ConcurrentHashMap.newKeySet();
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member annotatedMember, CustomIdGeneratorCreationContext context) {
+        var configurationService = context.getServiceRegistry().getService(ConfigurationService.class);
+        Integer nodeId = configurationService.getSetting(NODE_ID_SETTING, StandardConverters.INTEGER);
+        if (Objects.isNull(nodeId))
+            throw new IllegalStateException("The %s Hibernate setting must be set to a node id unique to this application instance".formatted(NODE_ID_SETTING));
+        this.allocator = TimeOrderedIdAllocator.forNode(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        var entityName = session.getEntityPersister(null, owner).getEntityName();
+        if (!seededEntityNames.contains(entityName)) seedFromHighestStoredId(session, entityName);
+        return allocator.nextId();
+    }
+
+    /**
+     * Move the allocator past the highest id stored for an entity type, once per entity type
+     * @param session the session inserting the entity
+     * @param entityName the name of the entity type
+     */
+    private synchronized void seedFromHighestStoredId(SharedSessionContractImplementor session, String entityName) {
+        if (seededEntityNames.contains(entityName)) return;
+        // Read without flushing, since the session is in the middle of persisting an entity
+        var highestId = session.createSelectionQuery("select max(e.id) from %s e".formatted(entityName), Long.class)
+                .setHibernateFlushMode(FlushMode.MANUAL)
+                .getSingleResult();
+        if (!Objects.isNull(highestId)) allocator.advancePast(highestId);
+        seededEntityNames.add(entityName);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
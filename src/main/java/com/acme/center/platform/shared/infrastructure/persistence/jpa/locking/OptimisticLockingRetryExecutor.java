@@ -0,0 +1,109 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.locking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Optimistic locking retry executor
+ * <p>
+ *     Runs a unit of work in its own transaction and runs it again, in a new transaction, when it fails because
+ *     another transaction changed the same aggregate version first. Each new attempt reloads the aggregate, so the
+ *     work is applied to its latest state. Only idempotent work must be retried this way: work that gives the same
+ *     result when it is applied again to a state it already changed.
+ * </p>
+ * <p>
+ *     Attempts are bounded, and spaced by an exponential backoff with full jitter, so conflicting writers spread out
+ *     instead of colliding again. When the caller already runs in a transaction, the work joins it and is not retried,
+ *     since a failed transaction cannot be resumed.
+ *     Conflicts and exhausted retries are published as {@code persistence.optimistic-locking.*} metrics.
+ * </p>
+ */
+@Component
+public class OptimisticLockingRetryExecutor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OptimisticLockingRetryExecutor.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maximumAttempts;
+    private final long initialBackoffMs;
+    private final long maximumBackoffMs;
+
+    public OptimisticLockingRetryExecutor(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${persistence.optimistic-locking.retry.maximum-attempts}") int maximumAttempts,
+            @Value("${persistence.optimistic-locking.retry.initial-backoff-ms}") long initialBackoffMs,
+            @Value("${persistence.optimistic-locking.retry.maximum-backoff-ms}") long maximumBackoffMs) {
+        if (maximumAttempts < 1) throw new IllegalArgumentException("Maximum attempts must be at least 1");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maximumAttempts = maximumAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maximumBackoffMs = maximumBackoffMs;
+    }
+
+    /**
+     * Run a unit of work, retrying it on optimistic locking conflicts
+     * @param operation the name of the operation, used to tag the metrics
+     * @param work the idempotent unit of work
+     * @param <T> the type of the result
+     * @return T the result of the first attempt that commits
+     * @throws OptimisticLockingFailureException if every attempt conflicts
+     */
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return work.get();
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflictCounter(operation).increment();
+                if (attempt >= maximumAttempts) {
+                    exhaustedCounter(operation).increment();
+                    throw e;
+                }
+                LOGGER.debug("Optimistic locking conflict on {}, attempt {} of {}", operation, attempt, maximumAttempts);
+                sleep(ThreadLocalRandom.current().nextLong(backoffMs + 1));
+                backoffMs = Math.min(backoffMs * 2, maximumBackoffMs);
+            }
+        }
+    }
+
+    /**
+     * Wait before the next attempt
+     * @param delayMs the delay in milliseconds
+     */
+    private static void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    private Counter conflictCounter(String operation) {
+        return Counter.builder("persistence.optimistic-locking.conflicts")
+                .description("Transactions that failed because another transaction changed the same aggregate version first")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private Counter exhaustedCounter(String operation) {
+        return Counter.builder("persistence.optimistic-locking.retries.exhausted")
+                .description("Operations that still conflicted after the maximum number of attempts")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
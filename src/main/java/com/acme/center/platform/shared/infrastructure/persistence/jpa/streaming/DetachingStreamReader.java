@@ -0,0 +1,45 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Detaching stream reader.
+ * <p>
+ *     This class reads a stream of entities returned by a repository and hands each entity to a consumer.
+ *     Each entity is detached from the persistence context right after it is consumed, so reading a whole table
+ *     keeps the persistence context, and the heap, at a constant size.
+ *     It must be called inside a transaction, since the stream reads from an open, streaming result set.
+ * </p>
+ */
+@Component
+public class DetachingStreamReader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Consume every entity of a stream, detaching it afterward
+     * @param entities the stream of entities, closed when this method returns
+     * @param consumer the consumer of each entity
+     * @param <T> the type of the entities
+     * @return long the number of entities consumed
+     */
+    public <T> long forEach(Stream<T> entities, Consumer<? super T> consumer) {
+        long count = 0;
+        try (entities) {
+            var iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                var entity = iterator.next();
+                consumer.accept(entity);
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+}
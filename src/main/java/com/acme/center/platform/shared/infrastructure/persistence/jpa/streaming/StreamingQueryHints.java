@@ -0,0 +1,25 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.streaming;
+
+/**
+ * Streaming query hints.
+ * <p>
+ *     MySQL Connector/J streams a result set row by row, instead of reading it whole into memory, only when the statement
+ *     is forward-only, read-only and has a fetch size of {@link Integer#MIN_VALUE}. Setting the fetch size on each export
+ *     query keeps every other query on the default, fully buffered client-side result sets and prepared statements.
+ * </p>
+ * <p>
+ *     While a streaming result set is open, its connection cannot run any other statement.
+ *     Queries using this hint must therefore read everything they need in a single statement, with fetch joins or projections,
+ *     and their consumers must not trigger lazy loading.
+ * </p>
+ */
+public final class StreamingQueryHints {
+
+    /**
+     * Fetch size that makes MySQL Connector/J stream the result set row by row
+     */
+    public static final String ROW_BY_ROW_FETCH_SIZE = "-2147483648";
+
+    private StreamingQueryHints() {
+    }
+}
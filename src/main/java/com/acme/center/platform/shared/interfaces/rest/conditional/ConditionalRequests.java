@@ -0,0 +1,42 @@
+package com.acme.center.platform.shared.interfaces.rest.conditional;
+
+import com.acme.center.platform.shared.domain.model.readmodels.AggregateVersion;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional requests support.
+ * <p>
+ *     This class evaluates the {@code If-None-Match} and {@code If-Modified-Since} headers of a request against the
+ *     version of an aggregate. The entity tag is derived from the aggregate id, its updated at timestamp and its
+ *     revision, and the last modified date from its updated at timestamp. When the request is a GET or a HEAD,
+ *     both are written to the response, and the status is set to {@code 304 Not Modified} when the client copy is current.
+ * </p>
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Check whether the client copy of an aggregate is current
+     * <p>When it is, the handler must return {@code null}, so the {@code 304 Not Modified} response is sent without a body.</p>
+     * @param webRequest the current request
+     * @param version the current version of the aggregate
+     * @return boolean true if the client copy is current, false otherwise
+     */
+    public static boolean checkNotModified(WebRequest webRequest, AggregateVersion version) {
+        return webRequest.checkNotModified(toEntityTag(version), version.updatedAt().getTime());
+    }
+
+    /**
+     * Build the entity tag of an aggregate version
+     * @param version the version of the aggregate
+     * @return String the quoted entity tag
+     */
+    public static String toEntityTag(AggregateVersion version) {
+        return "\"%s-%s-%s\"".formatted(
+                Long.toHexString(version.id()),
+                Long.toHexString(version.updatedAt().getTime()),
+                Long.toHexString(version.revision()));
+    }
+}
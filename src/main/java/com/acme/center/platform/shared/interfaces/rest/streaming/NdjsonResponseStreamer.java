@@ -0,0 +1,95 @@
+package com.acme.center.platform.shared.interfaces.rest.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Newline-delimited JSON response streamer.
+ * <p>
+ *     This class writes resources to an HTTP response as newline-delimited JSON, one resource per line,
+ *     as they are produced. The response is flushed every few resources, so neither the full list nor
+ *     the full response body is ever held in memory.
+ * </p>
+ */
+@Component
+public class NdjsonResponseStreamer {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final ObjectMapper objectMapper;
+    private final int flushInterval;
+
+    public NdjsonResponseStreamer(ObjectMapper objectMapper, @Value("${export.ndjson.flush-interval}") int flushInterval) {
+        this.objectMapper = objectMapper;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Start writing newline-delimited JSON to a response
+     * @param response the HTTP response
+     * @return NdjsonSequence the sequence to write the resources to, which must be closed when done
+     * @throws IOException if the response output stream cannot be opened
+     */
+    public NdjsonSequence open(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        var outputStream = response.getOutputStream();
+        var writer = objectMapper.writer()
+                .withRootValueSeparator(LINE_SEPARATOR)
+                .writeValues(outputStream);
+        return new NdjsonSequence(writer, outputStream, flushInterval);
+    }
+
+    /**
+     * Sequence of resources written to a response as newline-delimited JSON.
+     */
+    public static class NdjsonSequence implements AutoCloseable {
+        private final SequenceWriter writer;
+        private final OutputStream outputStream;
+        private final int flushInterval;
+        private long written;
+
+        private NdjsonSequence(SequenceWriter writer, OutputStream outputStream, int flushInterval) {
+            this.writer = writer;
+            this.outputStream = outputStream;
+            this.flushInterval = flushInterval;
+        }
+
+        /**
+         * Write a resource as one line
+         * @param resource the resource to write
+         * @throws UncheckedIOException if the resource cannot be written, for example when the client disconnects
+         */
+        public void write(Object resource) {
+            try {
+                writer.write(resource);
+                if (++written % flushInterval == 0) writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Finish the sequence, writing the last line separator and flushing the response
+         * @throws IOException if the response cannot be flushed
+         */
+        @Override
+        public void close() throws IOException {
+            if (written > 0) {
+                // The separator is only written between resources, so the last line is terminated here
+                writer.flush();
+                outputStream.write(LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+            }
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.acme.center.platform.iam.infrastructure.hashing.benchmarks;
+
+import com.acme.center.platform.iam.infrastructure.hashing.strategies.PasswordHashingStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing benchmark.
+ * <p>
+ *     This benchmark reports the hashes per second of each supported password hashing strategy on the current hardware,
+ *     so the target strategy and BCrypt cost can be chosen against the sign-in latency objective.
+ *     Run it with {@code mvn -Pbenchmark -DskipTests test}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String RAW_PASSWORD = "correct-horse-battery-staple";
+
+    @Param({PasswordHashingStrategies.BCRYPT, PasswordHashingStrategies.ARGON2, PasswordHashingStrategies.PBKDF2})
+    public String strategy;
+
+    @Param({"10", "12"})
+    public int bcryptStrength;
+
+    private PasswordEncoder passwordEncoder;
+
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = PasswordHashingStrategies.createDelegatingPasswordEncoder(strategy, bcryptStrength);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,124 @@
+package com.acme.center.platform.learning.domain.model.valueobjects;
+
+import com.acme.center.platform.learning.domain.model.aggregates.Course;
+import com.acme.center.platform.learning.domain.model.entities.LearningPathItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.acme.center.platform.learning.domain.model.valueobjects.LearningPath.POSITION_GAP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LearningPathTests {
+
+    private final Course course = new Course();
+
+    @Test
+    void replacesAnEmptyPathWithNumberedItems() {
+        var items = LearningPath.replaceItems(course, List.of(), tutorialIds(1, 2, 3));
+
+        assertThat(tutorialIdsOf(items)).containsExactly(1L, 2L, 3L);
+        assertThat(positionsOf(items)).containsExactly(POSITION_GAP, 2 * POSITION_GAP, 3 * POSITION_GAP);
+        assertLinkedInOrder(items);
+    }
+
+    @Test
+    void replacesAPathWithAnEmptyPath() {
+        var currentItems = linkedItems(1024L, 2048L, 3072L);
+
+        var items = LearningPath.replaceItems(course, currentItems, List.of());
+
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void reusesTheItemsOfAReversedPath() {
+        var currentItems = linkedItems(1024L, 2048L, 3072L);
+
+        var items = LearningPath.replaceItems(course, currentItems, tutorialIds(3, 2, 1));
+
+        assertThat(items).containsExactly(currentItems.get(2), currentItems.get(1), currentItems.get(0));
+        assertStrictlyIncreasing(positionsOf(items));
+        assertLinkedInOrder(items);
+    }
+
+    @Test
+    void keepsThePositionsOfTheItemsThatDoNotMove() {
+        var currentItems = linkedItems(1024L, 2048L, 3072L, 4096L, 5120L);
+
+        var items = LearningPath.replaceItems(course, currentItems, tutorialIds(5, 1, 2, 3, 4));
+
+        assertThat(items).containsExactly(currentItems.get(4), currentItems.get(0), currentItems.get(1), currentItems.get(2), currentItems.get(3));
+        assertThat(positionsOf(items)).containsExactly(512L, 1024L, 2048L, 3072L, 4096L);
+        assertLinkedInOrder(items);
+    }
+
+    @Test
+    void numbersNewItemsBetweenTheItemsAroundThem() {
+        var currentItems = linkedItems(1024L, 2048L);
+
+        var items = LearningPath.replaceItems(course, currentItems, tutorialIds(1, 3, 4, 2));
+
+        assertThat(items.get(0)).isSameAs(currentItems.get(0));
+        assertThat(items.get(3)).isSameAs(currentItems.get(1));
+        assertThat(positionsOf(items)).containsExactly(1024L, 1365L, 1706L, 2048L);
+        assertLinkedInOrder(items);
+    }
+
+    @Test
+    void renumbersThePathWhenThereIsNoRoomBetweenTwoItems() {
+        var currentItems = linkedItems(1L, 2L);
+
+        var items = LearningPath.replaceItems(course, currentItems, tutorialIds(1, 3, 2));
+
+        assertThat(tutorialIdsOf(items)).containsExactly(1L, 3L, 2L);
+        assertThat(positionsOf(items)).containsExactly(POSITION_GAP, 2 * POSITION_GAP, 3 * POSITION_GAP);
+        assertLinkedInOrder(items);
+    }
+
+    @Test
+    void numbersLegacyItemsWithoutPosition() {
+        var currentItems = linkedItems(null, null, null);
+
+        var items = LearningPath.replaceItems(course, currentItems, tutorialIds(1, 2, 3, 4));
+
+        assertThat(items.subList(0, 3)).containsExactlyElementsOf(currentItems);
+        assertThat(positionsOf(items)).containsExactly(POSITION_GAP, 2 * POSITION_GAP, 3 * POSITION_GAP, 4 * POSITION_GAP);
+        assertLinkedInOrder(items);
+    }
+
+    private List<LearningPathItem> linkedItems(Long... positions) {
+        var items = new ArrayList<LearningPathItem>(positions.length);
+        for (int ordinal = 0; ordinal < positions.length; ordinal++)
+            items.add(new LearningPathItem(course, new TutorialId(ordinal + 1L), null, positions[ordinal]));
+        for (int ordinal = 0; ordinal + 1 < items.size(); ordinal++)
+            items.get(ordinal).updateNextItem(items.get(ordinal + 1));
+        return items;
+    }
+
+    private static List<TutorialId> tutorialIds(long... tutorialIds) {
+        return LongStream.of(tutorialIds).mapToObj(TutorialId::new).toList();
+    }
+
+    private static List<Long> tutorialIdsOf(List<LearningPathItem> items) {
+        return items.stream().map(item -> item.getTutorialId().tutorialId()).toList();
+    }
+
+    private static List<Long> positionsOf(List<LearningPathItem> items) {
+        return items.stream().map(LearningPathItem::getPosition).toList();
+    }
+
+    private static void assertStrictlyIncreasing(List<Long> positions) {
+        var sorted = positions.stream().sorted().distinct().toList();
+        assertThat(positions).containsExactlyElementsOf(sorted);
+    }
+
+    private static void assertLinkedInOrder(List<LearningPathItem> items) {
+        for (int ordinal = 0; ordinal + 1 < items.size(); ordinal++)
+            assertThat(items.get(ordinal).getNextItem()).isSameAs(items.get(ordinal + 1));
+        assertThat(items.getLast().getNextItem()).isNull();
+        assertStrictlyIncreasing(positionsOf(items));
+    }
+}
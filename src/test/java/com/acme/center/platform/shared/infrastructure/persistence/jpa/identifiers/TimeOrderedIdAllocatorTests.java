@@ -0,0 +1,83 @@
+package com.acme.center.platform.shared.infrastructure.persistence.jpa.identifiers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdAllocatorTests {
+
+    private static final long NOW = TimeOrderedIdAllocator.EPOCH_MILLIS + 1_000_000L;
+    private static final int SEQUENCE_VALUES_PER_MILLISECOND = 1 << TimeOrderedIdAllocator.SEQUENCE_BITS;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final TimeOrderedIdAllocator allocator = new TimeOrderedIdAllocator(3, clock::get);
+
+    @Test
+    void allocatesIncreasingIdsWithinAMillisecond() {
+        long first = allocator.nextId();
+        long second = allocator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(TimeOrderedIdAllocator.timestampOf(first)).isEqualTo(NOW - TimeOrderedIdAllocator.EPOCH_MILLIS);
+        assertThat(TimeOrderedIdAllocator.timestampOf(second)).isEqualTo(NOW - TimeOrderedIdAllocator.EPOCH_MILLIS);
+    }
+
+    @Test
+    void movesToTheNextMillisecondWhenTheSequenceRollsOver() {
+        long previous = -1L;
+        for (int i = 0; i < SEQUENCE_VALUES_PER_MILLISECOND; i++) {
+            long id = allocator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        long rolledOver = allocator.nextId();
+
+        assertThat(rolledOver).isGreaterThan(previous);
+        assertThat(TimeOrderedIdAllocator.timestampOf(rolledOver)).isEqualTo(NOW - TimeOrderedIdAllocator.EPOCH_MILLIS + 1);
+    }
+
+    @Test
+    void keepsIncreasingWhenTheClockMovesBackwards() {
+        long beforeRegression = allocator.nextId();
+        clock.set(NOW - 60_000L);
+
+        long afterRegression = allocator.nextId();
+
+        assertThat(afterRegression).isGreaterThan(beforeRegression);
+    }
+
+    @Test
+    void allocatesAboveTheStoredIdsAfterARestartBehindThem() {
+        var previousRun = new TimeOrderedIdAllocator(3, () -> NOW + 5_000L);
+        long storedId = 0L;
+        for (int i = 0; i < SEQUENCE_VALUES_PER_MILLISECOND * 2; i++) storedId = previousRun.nextId();
+
+        allocator.advancePast(storedId);
+
+        assertThat(allocator.nextId()).isGreaterThan(storedId);
+    }
+
+    @Test
+    void allocatesAboveAStoredIdOfTheSameMillisecond() {
+        var previousRun = new TimeOrderedIdAllocator(3, clock::get);
+        long storedId = 0L;
+        for (int i = 0; i < 10; i++) storedId = previousRun.nextId();
+
+        allocator.advancePast(storedId);
+
+        assertThat(allocator.nextId()).isGreaterThan(storedId);
+    }
+
+    @Test
+    void ignoresStoredIdsBelowItsClock() {
+        long legacyAutoIncrementId = 42L;
+
+        allocator.advancePast(legacyAutoIncrementId);
+        long id = allocator.nextId();
+
+        assertThat(TimeOrderedIdAllocator.timestampOf(id)).isEqualTo(NOW - TimeOrderedIdAllocator.EPOCH_MILLIS);
+    }
+}